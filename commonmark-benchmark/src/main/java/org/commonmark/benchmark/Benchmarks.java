@@ -0,0 +1,13 @@
+package org.commonmark.benchmark;
+
+// Prevent maven-gpg-plugin from failing with this error:
+//     The project artifact has not been assembled yet.
+//     Please do not invoke this goal before the lifecycle phase "package".
+//
+// Same as in commonmark-integration-test, the benchmarks themselves are in src/test.
+
+/**
+ * Module with benchmarks, see {@code CorpusBenchmark}.
+ */
+public class Benchmarks {
+}
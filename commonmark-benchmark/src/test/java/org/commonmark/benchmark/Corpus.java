@@ -0,0 +1,190 @@
+package org.commonmark.benchmark;
+
+import org.commonmark.testutil.TestResources;
+
+/**
+ * Inputs for benchmarks. Apart from the spec, they're generated so that they're deterministic and don't need big
+ * files in the repository. Each one is a few hundred KB.
+ */
+public enum Corpus {
+
+    /**
+     * The spec, for comparison with {@code SpecBenchmark}.
+     */
+    SPEC {
+        @Override
+        String generate() {
+            return TestResources.readAsString(TestResources.getSpec());
+        }
+    },
+
+    /**
+     * A long README-like document with a bit of everything: headings, paragraphs, lists, code, tables, links.
+     */
+    README {
+        @Override
+        String generate() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("---\ntitle: Project\nauthors:\n  - one\n  - two\n---\n\n");
+            sb.append("Project\n=======\n\n");
+            for (int i = 0; i < 300; i++) {
+                sb.append("## Section ").append(i).append("\n\n");
+                sb.append("This section explains *feature ").append(i).append("* of the project. It has ")
+                        .append("`inline code`, a [link](https://example.com/docs/").append(i)
+                        .append(" \"Docs\") and a [reference link][ref").append(i).append("].\n")
+                        .append("The text wraps over multiple lines like it usually does in a README, and mentions ")
+                        .append("https://www.example.org/issues/").append(i).append(" as well.\n\n");
+                sb.append("- [x] Done item with **strong** text\n")
+                        .append("- [ ] Open item with _emphasis_\n")
+                        .append("  - Nested item ~~removed~~ ++added++\n\n");
+                sb.append("```java\n")
+                        .append("Parser parser = Parser.builder().build();\n")
+                        .append("Node document = parser.parse(\"Section ").append(i).append("\");\n")
+                        .append("```\n\n");
+                sb.append("| Option | Default | Description |\n")
+                        .append("|:-------|:-------:|------------:|\n")
+                        .append("| `a").append(i).append("` | `true` | Enables *a* |\n")
+                        .append("| `b").append(i).append("` | `false` | Enables **b** |\n\n");
+                sb.append("![Badge](https://img.example.com/badge/").append(i).append(".svg){width=80 height=20}\n\n");
+                sb.append("[ref").append(i).append("]: https://example.com/ref/").append(i).append(" \"Reference\"\n\n");
+            }
+            return sb.toString();
+        }
+    },
+
+    /**
+     * Lists nested up to 30 levels deep, with paragraphs and mixed bullet and ordered lists.
+     */
+    NESTED_LISTS {
+        @Override
+        String generate() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                for (int depth = 0; depth < 30; depth++) {
+                    indent(sb, depth * 3);
+                    if (depth % 2 == 0) {
+                        sb.append("-  item ").append(depth).append('\n');
+                    } else {
+                        sb.append("1. item ").append(depth).append('\n');
+                    }
+                }
+                for (int depth = 29; depth >= 0; depth -= 3) {
+                    sb.append('\n');
+                    indent(sb, depth * 3 + 3);
+                    sb.append("continued paragraph in item ").append(depth).append('\n');
+                }
+                sb.append("\nparagraph\n\n");
+            }
+            return sb.toString();
+        }
+    },
+
+    /**
+     * Block quotes nested up to 30 levels deep, with lazy continuation lines and lists inside.
+     */
+    NESTED_BLOCK_QUOTES {
+        @Override
+        String generate() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 150; i++) {
+                for (int depth = 1; depth <= 30; depth++) {
+                    for (int j = 0; j < depth; j++) {
+                        sb.append("> ");
+                    }
+                    sb.append(depth % 5 == 0 ? "- quoted list item " : "quote level ").append(depth).append('\n');
+                    sb.append("lazy continuation line\n");
+                }
+                sb.append('\n');
+            }
+            return sb.toString();
+        }
+    },
+
+    /**
+     * Paragraphs full of emphasis, including unmatched and mixed delimiter runs.
+     */
+    EMPHASIS {
+        @Override
+        String generate() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 2000; i++) {
+                sb.append("Some *emphasis* and **strong** and ***both*** with _underscores_ and __double__ ones, ")
+                        .append("*nested **strong** in em* and _unclosed *mixed_ runs** of ***delimiters* too_.\n");
+                sb.append("Intra*word*emphasis, snake_case_words, ~~strikethrough~~ and ++inserted++ text.\n\n");
+            }
+            return sb.toString();
+        }
+    },
+
+    /**
+     * Paragraphs full of inline links, reference links (defined after their use), autolinks and images.
+     */
+    LINKS {
+        @Override
+        String generate() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 2000; i++) {
+                sb.append("See [the docs](https://example.com/docs/").append(i).append(" \"Title\"), ")
+                        .append("[reference ").append(i).append("][ref").append(i).append("], [ref").append(i)
+                        .append("], <https://example.com/auto/").append(i).append(">, www.example.org/").append(i)
+                        .append(" and ![image](/img/").append(i).append(".png \"Image\").\n")
+                        .append("Not a link: [brackets] and [more](brackets without closing paren.\n\n");
+            }
+            for (int i = 0; i < 2000; i++) {
+                sb.append("[ref").append(i).append("]: https://example.com/ref/").append(i).append(" 'Ref ")
+                        .append(i).append("'\n");
+            }
+            return sb.toString();
+        }
+    },
+
+    /**
+     * Big GFM tables with inline content in cells.
+     */
+    TABLES {
+        @Override
+        String generate() {
+            StringBuilder sb = new StringBuilder();
+            for (int table = 0; table < 5; table++) {
+                sb.append("| Name | Value | Status | Link | Notes | Escaped |\n");
+                sb.append("|:-----|------:|:------:|------|-------|---------|\n");
+                for (int row = 0; row < 1000; row++) {
+                    sb.append("| row ").append(row).append(" | ").append(row * 31).append(" | *ok* | [link](/r/")
+                            .append(row).append(") | `code` and **bold** | a \\| b |\n");
+                }
+                sb.append('\n');
+            }
+            return sb.toString();
+        }
+    },
+
+    /**
+     * HTML blocks of all kinds and inline HTML, like content from a CMS.
+     */
+    HTML {
+        @Override
+        String generate() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 500; i++) {
+                sb.append("<div class=\"section\" id=\"s").append(i).append("\">\n")
+                        .append("<p>Paragraph with <a href=\"/x\">a link</a>.</p>\n")
+                        .append("</div>\n\n");
+                sb.append("<!-- comment ").append(i).append(" -->\n\n");
+                sb.append("<pre>\npreformatted\n</pre>\n\n");
+                sb.append("<custom-element data-id=\"").append(i).append("\">\n\n");
+                sb.append("Text with <span class=\"x\">inline</span> <b>html</b>, <br/> and <img src=\"/i.png\" ")
+                        .append("alt=\"i\"> tags, &amp; entities &copy; &#169; &#xA9;.\n\n");
+                sb.append("<table>\n<tr><td>cell</td></tr>\n</table>\n\n");
+            }
+            return sb.toString();
+        }
+    };
+
+    abstract String generate();
+
+    private static void indent(StringBuilder sb, int spaces) {
+        for (int i = 0; i < spaces; i++) {
+            sb.append(' ');
+        }
+    }
+}
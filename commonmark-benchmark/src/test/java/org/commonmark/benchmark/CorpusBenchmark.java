@@ -0,0 +1,115 @@
+package org.commonmark.benchmark;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.front.matter.YamlFrontMatterExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.heading.anchor.HeadingAnchorExtension;
+import org.commonmark.ext.image.attributes.ImageAttributesExtension;
+import org.commonmark.ext.ins.InsExtension;
+import org.commonmark.ext.task.list.items.TaskListItemsExtension;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing and rendering of different kinds of input ({@link Corpus}), with and without all extensions.
+ * <p>
+ * Reports throughput and the distribution of the time per operation (including p99). When started using
+ * {@link #main}, the GC profiler is added to report allocation rates as well.
+ * <p>
+ * Run with {@code mvn -Pbenchmark} in this module (after {@code mvn install -DskipTests} in the root), or run
+ * {@link #main} from the IDE. The latter accepts JMH options, e.g. {@code -p corpus=TABLES} to only run one corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class CorpusBenchmark {
+
+    private static final List<Extension> ALL_EXTENSIONS = Arrays.asList(
+            AutolinkExtension.create(),
+            HeadingAnchorExtension.create(),
+            ImageAttributesExtension.create(),
+            InsExtension.create(),
+            StrikethroughExtension.create(),
+            TablesExtension.create(),
+            TaskListItemsExtension.create(),
+            YamlFrontMatterExtension.create());
+
+    @Param
+    public Corpus corpus;
+
+    @Param({"false", "true"})
+    public boolean allExtensions;
+
+    private String input;
+    private Parser parser;
+    private HtmlRenderer renderer;
+    private Node document;
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(CorpusBenchmark.class.getName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        List<Extension> extensions = allExtensions ? ALL_EXTENSIONS : Collections.<Extension>emptyList();
+        input = corpus.generate();
+        parser = Parser.builder().extensions(extensions).build();
+        renderer = HtmlRenderer.builder().extensions(extensions).build();
+        document = parser.parse(input);
+    }
+
+    @Benchmark
+    public Node parse() {
+        return parser.parse(input);
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render(document);
+    }
+
+    /**
+     * For comparison with {@link #renderUtf8()}: Rendering to a string and then encoding it.
+     */
+    @Benchmark
+    public byte[] renderThenEncodeUtf8() {
+        return renderer.render(document).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] renderUtf8() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.length() + input.length() / 4);
+        renderer.renderUtf8(document, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public String parseAndRender() {
+        return renderer.render(parser.parse(input));
+    }
+}
@@ -0,0 +1,97 @@
+package org.commonmark.benchmark;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.commonmark.testutil.Strings.repeat;
+
+/**
+ * Benchmarks parsing of adversarial inputs of increasing size. The time per operation should grow linearly with
+ * {@link #size}; if it grows quadratically, the input can be used for denial of service.
+ * <p>
+ * See {@code PathologicalTest} in core for the tests that make sure these don't regress completely.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class PathologicalBenchmark {
+
+    private static final Parser PARSER = Parser.builder().build();
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param
+    public Input input;
+
+    private String source;
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(PathologicalBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        source = input.generate(size);
+    }
+
+    @Benchmark
+    public Node parse() {
+        return PARSER.parse(source);
+    }
+
+    public enum Input {
+        EMPHASIS_CLOSERS_WITH_NO_OPENERS {
+            @Override
+            String generate(int size) {
+                return repeat("a_ ", size);
+            }
+        },
+        EMPHASIS_OPENERS_WITH_NO_CLOSERS {
+            @Override
+            String generate(int size) {
+                return repeat("_a ", size);
+            }
+        },
+        EMPHASIS_MULTIPLE_OF_3 {
+            @Override
+            String generate(int size) {
+                return "a**b" + repeat("c* ", size);
+            }
+        },
+        EMPHASIS_MIXED_LENGTHS_MULTIPLE_OF_3 {
+            @Override
+            String generate(int size) {
+                return "a*b" + repeat("c** d***** ", size / 2);
+            }
+        },
+        MISMATCHED_OPENERS_AND_CLOSERS {
+            @Override
+            String generate(int size) {
+                return repeat("*a_ ", size);
+            }
+        },
+        LINK_OPENERS_AND_EMPHASIS_CLOSERS {
+            @Override
+            String generate(int size) {
+                return repeat("[ a_ ", size);
+            }
+        };
+
+        abstract String generate(int size);
+    }
+}
@@ -1,6 +1,8 @@
 package org.commonmark.ext.gfm.strikethrough;
 
 import org.commonmark.Extension;
+import org.commonmark.node.CompactDocument;
+import org.commonmark.node.Node;
 import org.commonmark.renderer.text.TextContentRenderer;
 import org.commonmark.renderer.text.TextContentNodeRendererContext;
 import org.commonmark.renderer.text.TextContentNodeRendererFactory;
@@ -25,7 +27,7 @@ import org.commonmark.renderer.NodeRenderer;
  * </p>
  */
 public class StrikethroughExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension,
-        TextContentRenderer.TextContentRendererExtension {
+        TextContentRenderer.TextContentRendererExtension, CompactDocument.CompactDocumentExtension {
 
     private StrikethroughExtension() {
     }
@@ -58,4 +60,12 @@ public class StrikethroughExtension implements Parser.ParserExtension, HtmlRende
             }
         });
     }
+
+    /**
+     * @since 0.18.0
+     */
+    @Override
+    public Node copyNode(Node node) {
+        return node instanceof Strikethrough ? new Strikethrough() : null;
+    }
 }
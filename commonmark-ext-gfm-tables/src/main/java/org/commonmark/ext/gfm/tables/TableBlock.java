@@ -6,4 +6,23 @@ import org.commonmark.node.CustomBlock;
  * Table block containing a {@link TableHead} and optionally a {@link TableBody}.
  */
 public class TableBlock extends CustomBlock {
+
+    private boolean streamed;
+
+    /**
+     * @return whether the head and rows of this table were handed out separately when streaming rows (see
+     * {@link TablesExtension.Builder#streamRows(boolean)}). If so, the block only contains a {@link TableBody} with
+     * the rows that weren't handed out yet, and no head.
+     * @since 0.18.0
+     */
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    /**
+     * @since 0.18.0
+     */
+    public void setStreamed(boolean streamed) {
+        this.streamed = streamed;
+    }
 }
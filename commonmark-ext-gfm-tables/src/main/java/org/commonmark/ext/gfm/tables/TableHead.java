@@ -6,4 +6,22 @@ import org.commonmark.node.CustomNode;
  * Head part of a {@link TableBlock} containing {@link TableRow TableRows}.
  */
 public class TableHead extends CustomNode {
+
+    private TableBlock streamedTable;
+
+    /**
+     * @return the table that this head was handed out separately for when streaming rows (see
+     * {@link TablesExtension.Builder#streamRows(boolean)}), or null if the head is part of its table as usual
+     * @since 0.18.0
+     */
+    public TableBlock getStreamedTable() {
+        return streamedTable;
+    }
+
+    /**
+     * @since 0.18.0
+     */
+    public void setStreamedTable(TableBlock streamedTable) {
+        this.streamedTable = streamedTable;
+    }
 }
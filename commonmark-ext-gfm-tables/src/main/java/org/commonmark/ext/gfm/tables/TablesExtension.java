@@ -4,6 +4,8 @@ import org.commonmark.Extension;
 import org.commonmark.ext.gfm.tables.internal.TableBlockParser;
 import org.commonmark.ext.gfm.tables.internal.TableHtmlNodeRenderer;
 import org.commonmark.ext.gfm.tables.internal.TableTextContentNodeRenderer;
+import org.commonmark.node.CompactDocument;
+import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
 import org.commonmark.renderer.html.HtmlNodeRendererContext;
@@ -16,7 +18,7 @@ import org.commonmark.renderer.text.TextContentRenderer;
 /**
  * Extension for GFM tables using "|" pipes (GitHub Flavored Markdown).
  * <p>
- * Create it with {@link #create()} and then configure it on the builders
+ * Create it with {@link #create()} or {@link #builder()} and then configure it on the builders
  * ({@link org.commonmark.parser.Parser.Builder#extensions(Iterable)},
  * {@link HtmlRenderer.Builder#extensions(Iterable)}).
  * </p>
@@ -27,18 +29,32 @@ import org.commonmark.renderer.text.TextContentRenderer;
  * @see <a href="https://github.github.com/gfm/#tables-extension-">Tables (extension) in GitHub Flavored Markdown Spec</a>
  */
 public class TablesExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension,
-        TextContentRenderer.TextContentRendererExtension {
+        TextContentRenderer.TextContentRendererExtension, CompactDocument.CompactDocumentExtension {
 
-    private TablesExtension() {
+    private final boolean streamRows;
+
+    private TablesExtension(Builder builder) {
+        this.streamRows = builder.streamRows;
     }
 
+    /**
+     * @return the extension with default settings
+     */
     public static Extension create() {
-        return new TablesExtension();
+        return new TablesExtension(builder());
+    }
+
+    /**
+     * @return a builder to configure the extension settings
+     * @since 0.18.0
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     @Override
     public void extend(Parser.Builder parserBuilder) {
-        parserBuilder.customBlockParserFactory(new TableBlockParser.Factory());
+        parserBuilder.customBlockParserFactory(new TableBlockParser.Factory(streamRows));
     }
 
     @Override
@@ -60,4 +76,66 @@ public class TablesExtension implements Parser.ParserExtension, HtmlRenderer.Htm
             }
         });
     }
+
+    /**
+     * @since 0.18.0
+     */
+    @Override
+    public Node copyNode(Node node) {
+        if (node instanceof TableBlock) {
+            TableBlock tableBlock = new TableBlock();
+            tableBlock.setStreamed(((TableBlock) node).isStreamed());
+            return tableBlock;
+        } else if (node instanceof TableHead) {
+            // The streamed table is another node, which isn't part of the document the head is in
+            return new TableHead();
+        } else if (node instanceof TableBody) {
+            return new TableBody();
+        } else if (node instanceof TableRow) {
+            return new TableRow();
+        } else if (node instanceof TableCell) {
+            TableCell cell = (TableCell) node;
+            TableCell copy = new TableCell();
+            copy.setHeader(cell.isHeader());
+            copy.setAlignment(cell.getAlignment());
+            return copy;
+        }
+        return null;
+    }
+
+    /**
+     * @since 0.18.0
+     */
+    public static class Builder {
+        private boolean streamRows = false;
+
+        /**
+         * Whether to hand out the rows of top-level tables one by one when parsing with
+         * {@link Parser#parseReaderStreaming(java.io.Reader, org.commonmark.parser.BlockHandler)}, default false.
+         * <p>
+         * With this, each body row is inline-parsed and passed to the handler as soon as it's complete, so memory
+         * usage stays the same even for tables with a huge number of rows. The handler then gets the parts of a table
+         * in this order: The {@link TableHead} (without parent, see {@link TableHead#getStreamedTable()}), each
+         * {@link TableRow} of the body (without parent), and lastly the {@link TableBlock} itself (see
+         * {@link TableBlock#isStreamed()}) without head and with a {@link TableBody} with any remaining rows. Tables
+         * without body rows are passed as a whole as usual. Rendering the parts one by one with
+         * {@link HtmlRenderer} results in the same HTML as rendering the whole table.
+         * <p>
+         * Other ways of parsing are not affected by this.
+         *
+         * @param streamRows true to hand out rows one by one when streaming
+         * @return {@code this}
+         */
+        public Builder streamRows(boolean streamRows) {
+            this.streamRows = streamRows;
+            return this;
+        }
+
+        /**
+         * @return a configured extension
+         */
+        public Extension build() {
+            return new TablesExtension(this);
+        }
+    }
 }
@@ -5,23 +5,41 @@ import org.commonmark.internal.util.Parsing;
 import org.commonmark.node.Block;
 import org.commonmark.node.Node;
 import org.commonmark.node.SourceSpan;
+import org.commonmark.parser.BlockHandler;
 import org.commonmark.parser.InlineParser;
 import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.SourceLines;
 import org.commonmark.parser.block.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
-public class TableBlockParser extends AbstractBlockParser {
+public class TableBlockParser extends AbstractBlockParser implements StreamingBlockParser {
 
     private final TableBlock block = new TableBlock();
+    /**
+     * Lines that haven't been parsed into nodes yet. The source spans of the block are for the same lines.
+     */
     private final List<SourceLine> rowLines = new ArrayList<>();
     private final List<TableCell.Alignment> columns;
+    private final boolean streaming;
+    private final Cells cells = new Cells();
 
-    private TableBlockParser(List<TableCell.Alignment> columns, SourceLine headerLine) {
+    /**
+     * Number of columns of the header row, or -1 if the head hasn't been parsed yet
+     */
+    private int headerColumns = -1;
+    /**
+     * Body for the rows that weren't handled yet, once the head has been handled separately
+     */
+    private TableBody streamedBody = null;
+
+    private TableBlockParser(List<TableCell.Alignment> columns, SourceLine headerLine, boolean streaming) {
         this.columns = columns;
         this.rowLines.add(headerLine);
+        this.streaming = streaming;
     }
 
     @Override
@@ -48,115 +66,201 @@ public class TableBlockParser extends AbstractBlockParser {
         rowLines.add(line);
     }
 
+    @Override
+    public void handleCompleteParts(InlineParser inlineParser, BlockHandler blockHandler) {
+        // Body starts at index 2 (0 is header, 1 is separator) until the head is parsed. Wait for the first body row,
+        // so that a table without body is handled as a whole.
+        int bodyStart = headerColumns == -1 ? 2 : 0;
+        if (!streaming || rowLines.size() <= bodyStart) {
+            return;
+        }
+
+        List<SourceSpan> sourceSpans = block.getSourceSpans();
+        if (headerColumns == -1) {
+            // The block is handled last, with the rows that weren't handled yet. Set it up now so that the head can
+            // refer to it, e.g. for rendering the start of the table.
+            block.setStreamed(true);
+            streamedBody = new TableBody();
+            block.appendChild(streamedBody);
+
+            TableHead head = parseHead(sourceSpans, inlineParser);
+            head.setStreamedTable(block);
+            blockHandler.handle(head);
+        }
+        for (int rowIndex = bodyStart; rowIndex < rowLines.size(); rowIndex++) {
+            blockHandler.handle(parseRow(rowIndex, sourceSpans, inlineParser));
+        }
+
+        // Don't keep anything of the handled rows
+        rowLines.clear();
+        block.setSourceSpans(Collections.<SourceSpan>emptyList());
+    }
+
     @Override
     public void parseInlines(InlineParser inlineParser) {
         List<SourceSpan> sourceSpans = block.getSourceSpans();
+        int bodyStart = 0;
+        if (headerColumns == -1) {
+            block.appendChild(parseHead(sourceSpans, inlineParser));
+            bodyStart = 2;
+        }
 
+        // When rows have been handled already, the block is only the end of the table with the rest of the rows
+        Node body = streamedBody;
+        for (int rowIndex = bodyStart; rowIndex < rowLines.size(); rowIndex++) {
+            TableRow row = parseRow(rowIndex, sourceSpans, inlineParser);
+            if (body == null) {
+                // It's valid to have a table without body. In that case, don't add an empty TableBody node.
+                body = new TableBody();
+                block.appendChild(body);
+            }
+            body.appendChild(row);
+            body.addSourceSpan(rowIndex < sourceSpans.size() ? sourceSpans.get(rowIndex) : null);
+        }
+    }
+
+    private TableHead parseHead(List<SourceSpan> sourceSpans, InlineParser inlineParser) {
         SourceSpan headerSourceSpan = !sourceSpans.isEmpty() ? sourceSpans.get(0) : null;
-        Node head = new TableHead();
+        TableHead head = new TableHead();
         if (headerSourceSpan != null) {
             head.addSourceSpan(headerSourceSpan);
         }
-        block.appendChild(head);
 
         TableRow headerRow = new TableRow();
         headerRow.setSourceSpans(head.getSourceSpans());
         head.appendChild(headerRow);
 
-        List<SourceLine> headerCells = split(rowLines.get(0));
-        int headerColumns = headerCells.size();
+        SourceLine headerLine = rowLines.get(0);
+        split(headerLine.getContent(), cells);
+        headerColumns = cells.count;
         for (int i = 0; i < headerColumns; i++) {
-            SourceLine cell = headerCells.get(i);
-            TableCell tableCell = parseCell(cell, i, inlineParser);
+            TableCell tableCell = parseCell(headerLine, cells, i, inlineParser);
             tableCell.setHeader(true);
             headerRow.appendChild(tableCell);
         }
+        return head;
+    }
 
-        TableBody body = null;
-        // Body starts at index 2. 0 is header, 1 is separator.
-        for (int rowIndex = 2; rowIndex < rowLines.size(); rowIndex++) {
-            SourceLine rowLine = rowLines.get(rowIndex);
-            SourceSpan sourceSpan = rowIndex < sourceSpans.size() ? sourceSpans.get(rowIndex) : null;
-            List<SourceLine> cells = split(rowLine);
-            TableRow row = new TableRow();
-            if (sourceSpan != null) {
-                row.addSourceSpan(sourceSpan);
-            }
-
-            // Body can not have more columns than head
-            for (int i = 0; i < headerColumns; i++) {
-                SourceLine cell = i < cells.size() ? cells.get(i) : SourceLine.of("", null);
-                TableCell tableCell = parseCell(cell, i, inlineParser);
-                row.appendChild(tableCell);
-            }
+    private TableRow parseRow(int rowIndex, List<SourceSpan> sourceSpans, InlineParser inlineParser) {
+        SourceLine rowLine = rowLines.get(rowIndex);
+        SourceSpan sourceSpan = rowIndex < sourceSpans.size() ? sourceSpans.get(rowIndex) : null;
+        split(rowLine.getContent(), cells);
+        TableRow row = new TableRow();
+        if (sourceSpan != null) {
+            row.addSourceSpan(sourceSpan);
+        }
 
-            if (body == null) {
-                // It's valid to have a table without body. In that case, don't add an empty TableBody node.
-                body = new TableBody();
-                block.appendChild(body);
-            }
-            body.appendChild(row);
-            body.addSourceSpan(sourceSpan);
+        // Body can not have more columns than head
+        for (int i = 0; i < headerColumns; i++) {
+            TableCell tableCell = parseCell(rowLine, cells, i, inlineParser);
+            row.appendChild(tableCell);
         }
+        return row;
     }
 
-    private TableCell parseCell(SourceLine cell, int column, InlineParser inlineParser) {
+    private TableCell parseCell(SourceLine line, Cells cells, int column, InlineParser inlineParser) {
         TableCell tableCell = new TableCell();
-        SourceSpan sourceSpan = cell.getSourceSpan();
+        if (column < columns.size()) {
+            tableCell.setAlignment(columns.get(column));
+        }
+
+        if (column >= cells.count) {
+            // Missing cell in a body row
+            inlineParser.parse(SourceLines.of(SourceLine.of("", null)), tableCell);
+            return tableCell;
+        }
+
+        int cellStart = cells.getStart(column);
+        int cellEnd = cells.getEnd(column);
+        SourceSpan sourceSpan = sourceSpan(line, cellStart, cellEnd);
         if (sourceSpan != null) {
             tableCell.addSourceSpan(sourceSpan);
         }
 
-        if (column < columns.size()) {
-            tableCell.setAlignment(columns.get(column));
+        SourceLine content;
+        if (cells.hasEscapedPipe(column)) {
+            // Spans of the inline content are relative to the unescaped content, same as for other escapes
+            CharSequence unescaped = unescapePipes(line.getContent(), cellStart, cellEnd);
+            SourceLine cell = SourceLine.of(unescaped, sourceSpan);
+            int start = Parsing.skipSpaceTab(unescaped, 0, unescaped.length());
+            int end = Parsing.skipSpaceTabBackwards(unescaped, unescaped.length() - 1, start);
+            content = cell.substring(start, end + 1);
+        } else {
+            CharSequence row = line.getContent();
+            int start = Parsing.skipSpaceTab(row, cellStart, cellEnd);
+            int end = Parsing.skipSpaceTabBackwards(row, cellEnd - 1, start);
+            content = line.substring(start, end + 1);
         }
-
-        CharSequence content = cell.getContent();
-        int start = Parsing.skipSpaceTab(content, 0, content.length());
-        int end = Parsing.skipSpaceTabBackwards(content, content.length() - 1, start);
-        inlineParser.parse(SourceLines.of(cell.substring(start, end + 1)), tableCell);
+        inlineParser.parse(SourceLines.of(content), tableCell);
 
         return tableCell;
     }
 
-    private static List<SourceLine> split(SourceLine line) {
-        CharSequence row = line.getContent();
-        int nonSpace = Parsing.skipSpaceTab(row, 0, row.length());
+    private static SourceSpan sourceSpan(SourceLine line, int start, int end) {
+        SourceSpan sourceSpan = line.getSourceSpan();
+        if (sourceSpan == null || start == end) {
+            return null;
+        }
+        return SourceSpan.of(sourceSpan.getLineIndex(), sourceSpan.getColumnIndex() + start, end - start);
+    }
+
+    /**
+     * Split a row into cells, recording the start and end index of each cell in the row (without the pipes).
+     *
+     * @param cells the cells to fill, or null to only count them
+     * @return the number of cells
+     */
+    private static int split(CharSequence row, Cells cells) {
+        if (cells != null) {
+            cells.count = 0;
+        }
+        int count = 0;
+        int length = row.length();
+        int nonSpace = Parsing.skipSpaceTab(row, 0, length);
         int cellStart = row.charAt(nonSpace) == '|' ? nonSpace + 1 : nonSpace;
-        List<SourceLine> cells = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
-        for (int i = cellStart; i < row.length(); i++) {
+        boolean escapedPipe = false;
+        for (int i = cellStart; i < length; i++) {
             char c = row.charAt(i);
-            switch (c) {
-                case '\\':
-                    if (i + 1 < row.length() && row.charAt(i + 1) == '|') {
-                        // Pipe is special for table parsing. An escaped pipe doesn't result in a new cell, but is
-                        // passed down to inline parsing as an unescaped pipe. Note that that applies even for the `\|`
-                        // in an input like `\\|` - in other words, table parsing doesn't support escaping backslashes.
-                        sb.append('|');
-                        i++;
-                    } else {
-                        // Preserve backslash before other characters or at end of line.
-                        sb.append('\\');
-                    }
-                    break;
-                case '|':
-                    String content = sb.toString();
-
-                    cells.add(SourceLine.of(content, line.substring(cellStart, i).getSourceSpan()));
-                    sb.setLength(0);
-                    // + 1 to skip the pipe itself for the next cell's span
-                    cellStart = i + 1;
-                    break;
-                default:
-                    sb.append(c);
+            if (c == '\\') {
+                if (i + 1 < length && row.charAt(i + 1) == '|') {
+                    // Pipe is special for table parsing. An escaped pipe doesn't result in a new cell, but is
+                    // passed down to inline parsing as an unescaped pipe. Note that that applies even for the `\|`
+                    // in an input like `\\|` - in other words, table parsing doesn't support escaping backslashes.
+                    escapedPipe = true;
+                    i++;
+                }
+                // Otherwise the backslash is preserved (before other characters or at end of line)
+            } else if (c == '|') {
+                if (cells != null) {
+                    cells.add(cellStart, i, escapedPipe);
+                }
+                count++;
+                // + 1 to skip the pipe itself for the next cell
+                cellStart = i + 1;
+                escapedPipe = false;
+            }
+        }
+        if (cellStart < length) {
+            if (cells != null) {
+                cells.add(cellStart, length, escapedPipe);
             }
+            count++;
         }
-        if (sb.length() > 0) {
-            String content = sb.toString();
-            cells.add(SourceLine.of(content, line.substring(cellStart, line.getContent().length()).getSourceSpan()));
+        return count;
+    }
+
+    private static String unescapePipes(CharSequence row, int start, int end) {
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = row.charAt(i);
+            if (c == '\\' && i + 1 < end && row.charAt(i + 1) == '|') {
+                sb.append('|');
+                i++;
+            } else {
+                sb.append(c);
+            }
         }
-        return cells;
+        return sb.toString();
     }
 
     // Examples of valid separators:
@@ -167,11 +271,17 @@ public class TableBlockParser extends AbstractBlockParser {
     // -|-
     // |-|-|
     // --- | ---
-    private static List<TableCell.Alignment> parseSeparator(CharSequence s) {
-        List<TableCell.Alignment> columns = new ArrayList<>();
+    /**
+     * Parse the separator line starting at {@code start}, without allocating.
+     *
+     * @param columns the list to add the alignments of the columns to, or null to only count them
+     * @return the number of columns, or -1 if it's not a valid separator line
+     */
+    private static int parseSeparator(CharSequence s, int start, List<TableCell.Alignment> columns) {
+        int columnCount = 0;
         int pipes = 0;
         boolean valid = false;
-        int i = 0;
+        int i = start;
         while (i < s.length()) {
             char c = s.charAt(i);
             switch (c) {
@@ -180,16 +290,16 @@ public class TableBlockParser extends AbstractBlockParser {
                     pipes++;
                     if (pipes > 1) {
                         // More than one adjacent pipe not allowed
-                        return null;
+                        return -1;
                     }
                     // Need at lest one pipe, even for a one column table
                     valid = true;
                     break;
                 case '-':
                 case ':':
-                    if (pipes == 0 && !columns.isEmpty()) {
+                    if (pipes == 0 && columnCount != 0) {
                         // Need a pipe after the first column (first column doesn't need to start with one)
-                        return null;
+                        return -1;
                     }
                     boolean left = false;
                     boolean right = false;
@@ -204,13 +314,16 @@ public class TableBlockParser extends AbstractBlockParser {
                     }
                     if (!haveDash) {
                         // Need at least one dash
-                        return null;
+                        return -1;
                     }
                     if (i < s.length() && s.charAt(i) == ':') {
                         right = true;
                         i++;
                     }
-                    columns.add(getAlignment(left, right));
+                    if (columns != null) {
+                        columns.add(getAlignment(left, right));
+                    }
+                    columnCount++;
                     // Next, need another pipe
                     pipes = 0;
                     break;
@@ -221,13 +334,13 @@ public class TableBlockParser extends AbstractBlockParser {
                     break;
                 default:
                     // Any other character is invalid
-                    return null;
+                    return -1;
             }
         }
         if (!valid) {
-            return null;
+            return -1;
         }
-        return columns;
+        return columnCount;
     }
 
     private static TableCell.Alignment getAlignment(boolean left, boolean right) {
@@ -244,18 +357,33 @@ public class TableBlockParser extends AbstractBlockParser {
 
     public static class Factory extends AbstractBlockParserFactory {
 
+        private final boolean streaming;
+
+        public Factory() {
+            this(false);
+        }
+
+        /**
+         * @param streaming whether body rows are handed out one by one when parsing with
+         *                  {@link org.commonmark.parser.Parser#parseReaderStreaming}
+         */
+        public Factory(boolean streaming) {
+            this.streaming = streaming;
+        }
+
         @Override
         public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
             List<SourceLine> paragraphLines = matchedBlockParser.getParagraphLines().getLines();
             if (paragraphLines.size() == 1 && Parsing.find('|', paragraphLines.get(0).getContent(), 0) != -1) {
-                SourceLine line = state.getLine();
-                SourceLine separatorLine = line.substring(state.getIndex(), line.getContent().length());
-                List<TableCell.Alignment> columns = parseSeparator(separatorLine.getContent());
-                if (columns != null && !columns.isEmpty()) {
+                CharSequence line = state.getLine().getContent();
+                // Validate and count first, so that lines that aren't separators don't allocate anything
+                int columnCount = parseSeparator(line, state.getIndex(), null);
+                if (columnCount > 0) {
                     SourceLine paragraph = paragraphLines.get(0);
-                    List<SourceLine> headerCells = split(paragraph);
-                    if (columns.size() >= headerCells.size()) {
-                        return BlockStart.of(new TableBlockParser(columns, paragraph))
+                    if (columnCount >= split(paragraph.getContent(), null)) {
+                        List<TableCell.Alignment> columns = new ArrayList<>(columnCount);
+                        parseSeparator(line, state.getIndex(), columns);
+                        return BlockStart.of(new TableBlockParser(columns, paragraph, streaming))
                                 .atIndex(state.getIndex())
                                 .replaceActiveBlockParser();
                     }
@@ -264,4 +392,36 @@ public class TableBlockParser extends AbstractBlockParser {
             return BlockStart.none();
         }
     }
+
+    /**
+     * Start and end indexes of the cells of a row, reused for all rows of a table.
+     */
+    private static class Cells {
+
+        private int[] ranges = new int[3 * 8];
+        private int count = 0;
+
+        void add(int start, int end, boolean escapedPipe) {
+            int i = count * 3;
+            if (i == ranges.length) {
+                ranges = Arrays.copyOf(ranges, ranges.length * 2);
+            }
+            ranges[i] = start;
+            ranges[i + 1] = end;
+            ranges[i + 2] = escapedPipe ? 1 : 0;
+            count++;
+        }
+
+        int getStart(int cell) {
+            return ranges[cell * 3];
+        }
+
+        int getEnd(int cell) {
+            return ranges[cell * 3 + 1];
+        }
+
+        boolean hasEscapedPipe(int cell) {
+            return ranges[cell * 3 + 2] != 0;
+        }
+    }
 }
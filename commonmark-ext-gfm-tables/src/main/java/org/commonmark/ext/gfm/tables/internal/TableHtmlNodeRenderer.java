@@ -19,6 +19,17 @@ public class TableHtmlNodeRenderer extends TableNodeRenderer {
     }
 
     protected void renderBlock(TableBlock tableBlock) {
+        if (tableBlock.isStreamed()) {
+            // End of a table whose head and rows were streamed, see renderHead
+            renderChildren(getStreamedBody(tableBlock));
+            htmlWriter.line();
+            htmlWriter.tag("/tbody");
+            htmlWriter.line();
+            htmlWriter.tag("/table");
+            htmlWriter.line();
+            return;
+        }
+
         htmlWriter.line();
         htmlWriter.tag("table", getAttributes(tableBlock, "table"));
         renderChildren(tableBlock);
@@ -27,11 +38,22 @@ public class TableHtmlNodeRenderer extends TableNodeRenderer {
     }
 
     protected void renderHead(TableHead tableHead) {
+        // When streaming, the head of a table is passed on its own, followed by the body rows and the rest of the
+        // table block. So the head starts the table and its body.
+        TableBlock streamedTable = tableHead.getStreamedTable();
         htmlWriter.line();
+        if (streamedTable != null) {
+            htmlWriter.tag("table", getAttributes(streamedTable, "table"));
+            htmlWriter.line();
+        }
         htmlWriter.tag("thead", getAttributes(tableHead, "thead"));
         renderChildren(tableHead);
         htmlWriter.tag("/thead");
         htmlWriter.line();
+        if (streamedTable != null) {
+            htmlWriter.tag("tbody", getAttributes(getStreamedBody(streamedTable), "tbody"));
+            htmlWriter.line();
+        }
     }
 
     protected void renderBody(TableBody tableBody) {
@@ -59,6 +81,12 @@ public class TableHtmlNodeRenderer extends TableNodeRenderer {
         htmlWriter.line();
     }
 
+    private static Node getStreamedBody(TableBlock tableBlock) {
+        // The parser adds the body before handing out the head
+        Node body = tableBlock.getFirstChild();
+        return body instanceof TableBody ? body : new TableBody();
+    }
+
     private Map<String, String> getAttributes(Node node, String tagName) {
         return context.extendAttributes(node, tagName, Collections.<String, String>emptyMap());
     }
@@ -1,8 +1,14 @@
 package org.commonmark.ext.gfm.tables;
 
 import org.commonmark.Extension;
+import org.commonmark.node.BlockQuote;
+import org.commonmark.node.CompactDocument;
+import org.commonmark.node.Document;
+import org.commonmark.node.LinkReferenceDefinition;
 import org.commonmark.node.Node;
 import org.commonmark.node.SourceSpan;
+import org.commonmark.node.Text;
+import org.commonmark.parser.BlockHandler;
 import org.commonmark.parser.IncludeSourceSpans;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.AttributeProvider;
@@ -12,14 +18,22 @@ import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.testutil.RenderingTestCase;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public class TablesTest extends RenderingTestCase {
 
@@ -623,7 +637,141 @@ public class TablesTest extends RenderingTestCase {
 
     @Test
     public void attributeProviderIsApplied() {
-        AttributeProviderFactory factory = new AttributeProviderFactory() {
+        HtmlRenderer renderer = HtmlRenderer.builder()
+                .attributeProviderFactory(testAttributes())
+                .extensions(EXTENSIONS)
+                .build();
+        String rendered = renderer.render(PARSER.parse("Abc|Def\n---|---\n1|2"));
+        assertThat(rendered, is("<table test=\"block\">\n" +
+                "<thead test=\"head\">\n" +
+                "<tr test=\"row\">\n" +
+                "<th test=\"cell\">Abc</th>\n" +
+                "<th test=\"cell\">Def</th>\n" +
+                "</tr>\n" +
+                "</thead>\n" +
+                "<tbody test=\"body\">\n" +
+                "<tr test=\"row\">\n" +
+                "<td test=\"cell\">1</td>\n" +
+                "<td test=\"cell\">2</td>\n" +
+                "</tr>\n" +
+                "</tbody>\n" +
+                "</table>\n"));
+    }
+
+    @Test
+    public void sourceSpansWithEscapedPipeAndPadding() {
+        Parser parser = Parser.builder()
+                .extensions(EXTENSIONS)
+                .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                .build();
+        Node document = parser.parse("a | b\n--|--\n x\\|y |  z \n");
+
+        TableRow row = (TableRow) document.getFirstChild().getLastChild().getFirstChild();
+        TableCell cell1 = (TableCell) row.getFirstChild();
+        TableCell cell2 = (TableCell) row.getLastChild();
+        assertEquals(Arrays.asList(SourceSpan.of(2, 1, 5)), cell1.getSourceSpans());
+        assertEquals("x|y", ((Text) cell1.getFirstChild()).getLiteral());
+        assertEquals(Arrays.asList(SourceSpan.of(2, 1, 3)), cell1.getFirstChild().getSourceSpans());
+        assertEquals(Arrays.asList(SourceSpan.of(2, 7, 4)), cell2.getSourceSpans());
+        assertEquals("z", ((Text) cell2.getFirstChild()).getLiteral());
+        assertEquals(Arrays.asList(SourceSpan.of(2, 9, 1)), cell2.getFirstChild().getSourceSpans());
+    }
+
+    @Test
+    public void lineViews() {
+        Parser parser = Parser.builder().extensions(EXTENSIONS).lineViews(true).build();
+        String source = "Abc|Def\n---|---\n|1|2\n 3|four|\n|||\n| a \\| b | `c\\|` |\n";
+        assertEquals(render(source), RENDERER.render(parser.parse(source)));
+    }
+
+    @Test
+    public void streamRows() throws IOException {
+        Parser parser = Parser.builder()
+                .extensions(Collections.singleton(TablesExtension.builder().streamRows(true).build()))
+                .build();
+        String source = "[foo]: /url\n\nAbc|Def\n---|---\n|1|[foo]\n 3|four|\n\nAbc|Def\n---|---\n\n> a|b\n> -|-\n> 1|2\n";
+        final List<Node> nodes = new ArrayList<>();
+        parser.parseReaderStreaming(new StringReader(source), new BlockHandler() {
+            @Override
+            public void handle(Node node) {
+                nodes.add(node);
+            }
+        });
+
+        List<Class<?>> types = new ArrayList<>();
+        StringBuilder html = new StringBuilder();
+        for (Node node : nodes) {
+            assertNull(node.getParent());
+            types.add(node.getClass());
+            RENDERER.render(node, html);
+        }
+        assertEquals(Arrays.<Class<?>>asList(LinkReferenceDefinition.class, TableHead.class, TableRow.class,
+                TableRow.class, TableBlock.class, TableBlock.class, BlockQuote.class), types);
+        // End of the streamed table
+        TableHead head = (TableHead) nodes.get(1);
+        TableBlock block = (TableBlock) nodes.get(4);
+        assertSame(block, head.getStreamedTable());
+        assertTrue(block.isStreamed());
+        assertTrue(block.getFirstChild() instanceof TableBody);
+        assertNull(block.getFirstChild().getFirstChild());
+        assertNull(((TableHead) ((TableBlock) nodes.get(5)).getFirstChild()).getStreamedTable());
+        assertFalse(((TableBlock) nodes.get(5)).isStreamed());
+        assertEquals(render(source), html.toString());
+    }
+
+    @Test
+    public void compactDocument() {
+        String source = "Abc|Def\n:---|---:\n1|*2*\n";
+        Document document = (Document) PARSER.parse(source);
+        String expected = RENDERER.render(document);
+
+        CompactDocument compact = CompactDocument.of(document, source, EXTENSIONS);
+
+        // The original document is unchanged, and the compact one can be materialized any number of times
+        assertEquals(expected, RENDERER.render(document));
+        assertEquals(expected, RENDERER.render(compact.toNode()));
+        assertEquals(expected, RENDERER.render(compact.toNode()));
+    }
+
+    @Test
+    public void streamRowsWithAttributeProvider() throws IOException {
+        Parser parser = Parser.builder()
+                .extensions(Collections.singleton(TablesExtension.builder().streamRows(true).build()))
+                .build();
+        final HtmlRenderer renderer = HtmlRenderer.builder()
+                .attributeProviderFactory(testAttributes())
+                .extensions(EXTENSIONS)
+                .build();
+        String source = "Abc|Def\n---|---\n1|2\n3|4\n";
+        final StringBuilder html = new StringBuilder();
+        parser.parseReaderStreaming(new StringReader(source), new BlockHandler() {
+            @Override
+            public void handle(Node node) {
+                renderer.render(node, html);
+            }
+        });
+        assertEquals(renderer.render(PARSER.parse(source)), html.toString());
+    }
+
+    @Test
+    public void tableBlockWithoutHead() {
+        // E.g. created by a post processor, not streamed
+        TableBlock block = new TableBlock();
+        TableBody body = new TableBody();
+        TableRow row = new TableRow();
+        TableCell cell = new TableCell();
+        cell.appendChild(new Text("1"));
+        row.appendChild(cell);
+        body.appendChild(row);
+        block.appendChild(body);
+        assertEquals("<table>\n<tbody>\n<tr>\n<td>1</td>\n</tr>\n</tbody>\n</table>\n", RENDERER.render(block));
+
+        TableHead head = new TableHead();
+        assertEquals("<thead></thead>\n", RENDERER.render(head));
+    }
+
+    private static AttributeProviderFactory testAttributes() {
+        return new AttributeProviderFactory() {
             @Override
             public AttributeProvider create(AttributeProviderContext context) {
                 return new AttributeProvider() {
@@ -644,25 +792,6 @@ public class TablesTest extends RenderingTestCase {
                 };
             }
         };
-        HtmlRenderer renderer = HtmlRenderer.builder()
-                .attributeProviderFactory(factory)
-                .extensions(EXTENSIONS)
-                .build();
-        String rendered = renderer.render(PARSER.parse("Abc|Def\n---|---\n1|2"));
-        assertThat(rendered, is("<table test=\"block\">\n" +
-                "<thead test=\"head\">\n" +
-                "<tr test=\"row\">\n" +
-                "<th test=\"cell\">Abc</th>\n" +
-                "<th test=\"cell\">Def</th>\n" +
-                "</tr>\n" +
-                "</thead>\n" +
-                "<tbody test=\"body\">\n" +
-                "<tr test=\"row\">\n" +
-                "<td test=\"cell\">1</td>\n" +
-                "<td test=\"cell\">2</td>\n" +
-                "</tr>\n" +
-                "</tbody>\n" +
-                "</table>\n"));
     }
 
     @Test
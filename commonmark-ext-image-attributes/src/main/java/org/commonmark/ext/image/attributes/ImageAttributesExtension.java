@@ -3,12 +3,16 @@ package org.commonmark.ext.image.attributes;
 import org.commonmark.Extension;
 import org.commonmark.ext.image.attributes.internal.ImageAttributesAttributeProvider;
 import org.commonmark.ext.image.attributes.internal.ImageAttributesDelimiterProcessor;
+import org.commonmark.node.CompactDocument;
+import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.AttributeProvider;
 import org.commonmark.renderer.html.AttributeProviderContext;
 import org.commonmark.renderer.html.AttributeProviderFactory;
 import org.commonmark.renderer.html.HtmlRenderer;
 
+import java.util.LinkedHashMap;
+
 /**
  * Extension for adding attributes to image nodes.
  * <p>
@@ -19,7 +23,8 @@ import org.commonmark.renderer.html.HtmlRenderer;
  *
  * @since 0.15.0
  */
-public class ImageAttributesExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension {
+public class ImageAttributesExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension,
+        CompactDocument.CompactDocumentExtension {
 
     private ImageAttributesExtension() {
     }
@@ -42,4 +47,15 @@ public class ImageAttributesExtension implements Parser.ParserExtension, HtmlRen
             }
         });
     }
+
+    /**
+     * @since 0.18.0
+     */
+    @Override
+    public Node copyNode(Node node) {
+        if (node instanceof ImageAttributes) {
+            return new ImageAttributes(new LinkedHashMap<>(((ImageAttributes) node).getAttributes()));
+        }
+        return null;
+    }
 }
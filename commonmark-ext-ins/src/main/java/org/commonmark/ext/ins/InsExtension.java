@@ -4,6 +4,8 @@ import org.commonmark.Extension;
 import org.commonmark.ext.ins.internal.InsDelimiterProcessor;
 import org.commonmark.ext.ins.internal.InsHtmlNodeRenderer;
 import org.commonmark.ext.ins.internal.InsTextContentNodeRenderer;
+import org.commonmark.node.CompactDocument;
+import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
 import org.commonmark.renderer.html.HtmlNodeRendererContext;
@@ -26,7 +28,8 @@ import org.commonmark.renderer.text.TextContentRenderer;
  */
 public class InsExtension implements Parser.ParserExtension,
         HtmlRenderer.HtmlRendererExtension,
-        TextContentRenderer.TextContentRendererExtension {
+        TextContentRenderer.TextContentRendererExtension,
+        CompactDocument.CompactDocumentExtension {
 
     private InsExtension() {
     }
@@ -59,4 +62,12 @@ public class InsExtension implements Parser.ParserExtension,
             }
         });
     }
+
+    /**
+     * @since 0.18.0
+     */
+    @Override
+    public Node copyNode(Node node) {
+        return node instanceof Ins ? new Ins() : null;
+    }
 }
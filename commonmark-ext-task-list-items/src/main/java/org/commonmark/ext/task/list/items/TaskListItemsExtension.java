@@ -3,6 +3,8 @@ package org.commonmark.ext.task.list.items;
 import org.commonmark.Extension;
 import org.commonmark.ext.task.list.items.internal.TaskListItemHtmlNodeRenderer;
 import org.commonmark.ext.task.list.items.internal.TaskListItemPostProcessor;
+import org.commonmark.node.CompactDocument;
+import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
 import org.commonmark.renderer.html.HtmlNodeRendererContext;
@@ -19,7 +21,8 @@ import org.commonmark.renderer.html.HtmlRenderer;
  *
  * @since 0.15.0
  */
-public class TaskListItemsExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension {
+public class TaskListItemsExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension,
+        CompactDocument.CompactDocumentExtension {
 
     private TaskListItemsExtension() {
     }
@@ -42,4 +45,15 @@ public class TaskListItemsExtension implements Parser.ParserExtension, HtmlRende
             }
         });
     }
+
+    /**
+     * @since 0.18.0
+     */
+    @Override
+    public Node copyNode(Node node) {
+        if (node instanceof TaskListItemMarker) {
+            return new TaskListItemMarker(((TaskListItemMarker) node).isChecked());
+        }
+        return null;
+    }
 }
@@ -2,9 +2,13 @@ package org.commonmark.ext.front.matter;
 
 import org.commonmark.Extension;
 import org.commonmark.ext.front.matter.internal.YamlFrontMatterBlockParser;
+import org.commonmark.node.CompactDocument;
+import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
 
+import java.util.ArrayList;
+
 /**
  * Extension for YAML-like metadata.
  * <p>
@@ -16,7 +20,7 @@ import org.commonmark.renderer.html.HtmlRenderer;
  * The parsed metadata is turned into {@link YamlFrontMatterNode}. You can access the metadata using {@link YamlFrontMatterVisitor}.
  * </p>
  */
-public class YamlFrontMatterExtension implements Parser.ParserExtension {
+public class YamlFrontMatterExtension implements Parser.ParserExtension, CompactDocument.CompactDocumentExtension {
 
     private YamlFrontMatterExtension() {
     }
@@ -29,4 +33,18 @@ public class YamlFrontMatterExtension implements Parser.ParserExtension {
     public static Extension create() {
         return new YamlFrontMatterExtension();
     }
+
+    /**
+     * @since 0.18.0
+     */
+    @Override
+    public Node copyNode(Node node) {
+        if (node instanceof YamlFrontMatterBlock) {
+            return new YamlFrontMatterBlock();
+        } else if (node instanceof YamlFrontMatterNode) {
+            YamlFrontMatterNode frontMatterNode = (YamlFrontMatterNode) node;
+            return new YamlFrontMatterNode(frontMatterNode.getKey(), new ArrayList<>(frontMatterNode.getValues()));
+        }
+        return null;
+    }
 }
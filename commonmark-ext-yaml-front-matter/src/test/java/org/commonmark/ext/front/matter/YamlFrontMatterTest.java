@@ -3,6 +3,7 @@ package org.commonmark.ext.front.matter;
 import org.commonmark.Extension;
 import org.commonmark.node.CustomNode;
 import org.commonmark.node.Node;
+import org.commonmark.parser.IncludeSourceSpans;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.testutil.RenderingTestCase;
@@ -330,6 +331,17 @@ public class YamlFrontMatterTest extends RenderingTestCase {
         assertEquals("author", data.get("ms.author").get(0));
     }
 
+    @Test
+    public void notFrontMatterWhenParsedIncrementally() {
+        Parser parser = Parser.builder().extensions(EXTENSIONS).includeSourceSpans(IncludeSourceSpans.BLOCKS).build();
+        final String before = "text\n\n---\nfoo: bar\n---\n\nend\n";
+        final String after = "text\n\n---\nfoo: baz\n---\n\nend\n";
+
+        Node document = parser.parseIncremental(parser.parse(before), after, 3, 4, 4);
+
+        assertEquals("<p>text</p>\n<hr />\n<h2>foo: baz</h2>\n<p>end</p>\n", RENDERER.render(document));
+    }
+
     @Override
     protected String render(String source) {
         return RENDERER.render(PARSER.parse(source));
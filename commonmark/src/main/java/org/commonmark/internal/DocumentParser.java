@@ -1,6 +1,8 @@
 package org.commonmark.internal;
 
+import org.commonmark.internal.util.NormalizedLabel;
 import org.commonmark.internal.util.Parsing;
+import org.commonmark.internal.util.SubSequence;
 import org.commonmark.node.*;
 import org.commonmark.parser.*;
 import org.commonmark.parser.block.*;
@@ -10,6 +12,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 public class DocumentParser implements ParserState {
 
@@ -24,6 +31,12 @@ public class DocumentParser implements ParserState {
 
     private static final Map<Class<? extends Block>, BlockParserFactory> NODES_TO_CORE_FACTORIES;
 
+    /**
+     * Number of block parsers to parse inlines for in one task when using an executor. A lot of blocks are small, so
+     * this should be big enough to outweigh the cost of a task and an inline parser per task.
+     */
+    private static final int INLINE_PARSING_BATCH_SIZE = 256;
+
     static {
         Map<Class<? extends Block>, BlockParserFactory> map = new HashMap<>();
         map.put(BlockQuote.class, new BlockQuoteParser.Factory());
@@ -67,23 +80,76 @@ public class DocumentParser implements ParserState {
     private final InlineParserFactory inlineParserFactory;
     private final List<DelimiterProcessor> delimiterProcessors;
     private final IncludeSourceSpans includeSourceSpans;
-    private final DocumentBlockParser documentBlockParser;
-    private final Map<String, LinkReferenceDefinition> definitions = new LinkedHashMap<>();
+    private final boolean lineViews;
+    private final Executor inlineParsingExecutor;
+    private final boolean lazyInlineParsing;
+    private final BlockPredicate stopCondition;
+    private DocumentBlockParser documentBlockParser;
+    private final Map<NormalizedLabel, LinkReferenceDefinition> definitions = new LinkedHashMap<>();
 
     private final List<OpenBlockParser> openBlockParsers = new ArrayList<>();
     private final List<BlockParser> allBlockParsers = new ArrayList<>();
 
+    /**
+     * When streaming, receives each top-level block as soon as it's complete (instead of keeping it in the document).
+     */
+    private BlockHandler blockHandler;
+    private boolean inlineParsing = true;
+    private InlineParser inlineParser;
+    /**
+     * Whether to check the stop condition for closed blocks (only for parsing whole documents), and if it was met
+     */
+    private boolean checkStopCondition = false;
+    private boolean stopped = false;
+
     public DocumentParser(List<BlockParserFactory> blockParserFactories, InlineParserFactory inlineParserFactory,
-                          List<DelimiterProcessor> delimiterProcessors, IncludeSourceSpans includeSourceSpans) {
+                          List<DelimiterProcessor> delimiterProcessors, IncludeSourceSpans includeSourceSpans,
+                          boolean lineViews, Executor inlineParsingExecutor, boolean lazyInlineParsing,
+                          BlockPredicate stopCondition) {
         this.blockParserFactories = blockParserFactories;
         this.inlineParserFactory = inlineParserFactory;
         this.delimiterProcessors = delimiterProcessors;
         this.includeSourceSpans = includeSourceSpans;
+        this.lineViews = lineViews;
+        this.inlineParsingExecutor = inlineParsingExecutor;
+        this.lazyInlineParsing = lazyInlineParsing;
+        this.stopCondition = stopCondition;
 
         this.documentBlockParser = new DocumentBlockParser();
         activateBlockParser(new OpenBlockParser(documentBlockParser, 0));
     }
 
+    /**
+     * Reset the state so that this instance can be used to parse another document. Also releases the references to
+     * the previous document.
+     * <p>
+     * The inline parser is dropped as well, because it still references the input of the last block it parsed (with
+     * line views, the whole input). Creating one per document is cheap, the dispatch table is shared by the factory.
+     */
+    public void reset() {
+        line = null;
+        lineIndex = -1;
+        index = 0;
+        column = 0;
+        columnIsInTab = false;
+        nextNonSpace = 0;
+        nextNonSpaceColumn = 0;
+        indent = 0;
+        blank = false;
+
+        definitions.clear();
+        openBlockParsers.clear();
+        allBlockParsers.clear();
+        blockHandler = null;
+        inlineParsing = true;
+        inlineParser = null;
+        checkStopCondition = false;
+        stopped = false;
+
+        documentBlockParser = new DocumentBlockParser();
+        activateBlockParser(new OpenBlockParser(documentBlockParser, 0));
+    }
+
     public static Set<Class<? extends Block>> getDefaultBlockParserTypes() {
         return CORE_FACTORY_TYPES;
     }
@@ -102,26 +168,163 @@ public class DocumentParser implements ParserState {
      * The main parsing function. Returns a parsed document AST.
      */
     public Document parse(String input) {
+        checkStopCondition = stopCondition != null;
+        parseLines(input, 0, null);
+        return finalizeAndProcess();
+    }
+
+    public Document parse(Reader input) throws IOException {
+        checkStopCondition = stopCondition != null;
+        parseLines(input);
+        return finalizeAndProcess();
+    }
+
+    /**
+     * Parse the input, passing each top-level block to the handler as soon as it's complete. Link references can only
+     * be resolved with definitions that come before them in the input, or that were added using
+     * {@link #addDefinitions}.
+     */
+    public void parse(Reader input, BlockHandler blockHandler) throws IOException {
+        this.blockHandler = blockHandler;
+        checkStopCondition = stopCondition != null;
+        parseLines(input);
+        closeBlockParsers(openBlockParsers.size());
+    }
+
+    /**
+     * Parse only the blocks of the input to collect its link reference definitions. Blocks are discarded as soon as
+     * they're complete, so this needs little memory even for big inputs.
+     */
+    public Map<NormalizedLabel, LinkReferenceDefinition> parseDefinitions(Reader input) throws IOException {
+        this.blockHandler = new BlockHandler() {
+            @Override
+            public void handle(Node node) {
+            }
+        };
+        this.inlineParsing = false;
+        parseLines(input);
+        closeBlockParsers(openBlockParsers.size());
+        return definitions;
+    }
+
+    /**
+     * Parse the blocks of the input starting at line {@code startLine}, for re-parsing part of a document. Lines get
+     * their index in the whole input (which is used for source spans).
+     * <p>
+     * Parsing stops before the first line of {@code stopLines} (ascending line indexes) where all blocks except the
+     * document are closed. From there on, the rest of the input would be parsed the same way as before starting at
+     * that line.
+     * <p>
+     * If {@code afterBlocks} is true, the document already has a (placeholder) block while parsing, so that block
+     * parser factories that only start a block at the beginning of a document (e.g. for front matter) see that there
+     * are blocks before. The placeholder is removed afterwards.
+     * <p>
+     * Inlines are not parsed yet, see {@link #parseInlines()}.
+     *
+     * @return the index of the line where parsing stopped, or -1 if the whole rest of the input was parsed
+     */
+    public int parseBlocks(String input, int startLine, int[] stopLines, boolean afterBlocks) {
+        Block placeholder = null;
+        if (afterBlocks) {
+            placeholder = new PrecedingBlocks();
+            documentBlockParser.getBlock().appendChild(placeholder);
+        }
         int lineStart = 0;
-        int lineBreak;
-        while ((lineBreak = Parsing.findLineBreak(input, lineStart)) != -1) {
-            String line = input.substring(lineStart, lineBreak);
-            parseLine(line);
-            if (lineBreak + 1 < input.length() && input.charAt(lineBreak) == '\r' && input.charAt(lineBreak + 1) == '\n') {
-                lineStart = lineBreak + 2;
-            } else {
-                lineStart = lineBreak + 1;
+        for (int i = 0; i < startLine && lineStart != -1; i++) {
+            lineStart = nextLineStart(input, lineStart);
+        }
+        int stopLine = -1;
+        if (lineStart != -1) {
+            lineIndex = startLine - 1;
+            stopLine = parseLines(input, lineStart, stopLines);
+        }
+        closeBlockParsers(openBlockParsers.size());
+        if (placeholder != null) {
+            placeholder.unlink();
+        }
+        return stopLine;
+    }
+
+    /**
+     * Parse the inlines of the blocks parsed using {@link #parseBlocks}.
+     */
+    public Document parseInlines() {
+        processInlines();
+        return documentBlockParser.getBlock();
+    }
+
+    /**
+     * @return the link reference definitions found while parsing so far
+     */
+    public Map<NormalizedLabel, LinkReferenceDefinition> getDefinitions() {
+        return Collections.unmodifiableMap(definitions);
+    }
+
+    /**
+     * Add link reference definitions (e.g. from {@link #parseDefinitions}) to use for resolving link references.
+     */
+    public void addDefinitions(Map<NormalizedLabel, LinkReferenceDefinition> definitions) {
+        for (Map.Entry<NormalizedLabel, LinkReferenceDefinition> entry : definitions.entrySet()) {
+            // spec: When there are multiple matching link reference definitions, the first is used
+            if (!this.definitions.containsKey(entry.getKey())) {
+                this.definitions.put(entry.getKey(), entry.getValue());
             }
         }
-        if (input.length() > 0 && (lineStart == 0 || lineStart < input.length())) {
-            String line = input.substring(lineStart);
-            parseLine(line);
+    }
+
+    /**
+     * @return the line index where parsing stopped (see {@link #parseBlocks}), or -1 if all lines were parsed
+     */
+    private int parseLines(String input, int lineStart, int[] stopLines) {
+        int stopIndex = 0;
+        while (lineStart < input.length() && !stopped) {
+            if (stopLines != null) {
+                int nextLineIndex = lineIndex + 1;
+                while (stopIndex < stopLines.length && stopLines[stopIndex] < nextLineIndex) {
+                    stopIndex++;
+                }
+                if (stopIndex < stopLines.length && stopLines[stopIndex] == nextLineIndex && openBlockParsers.size() == 1) {
+                    return nextLineIndex;
+                }
+            }
+
+            int lineBreak = Parsing.findLineBreak(input, lineStart);
+            if (lineBreak == -1) {
+                parseLine(line(input, lineStart, input.length()));
+                break;
+            }
+            parseLine(line(input, lineStart, lineBreak));
+            lineStart = afterLineBreak(input, lineBreak);
         }
+        return -1;
+    }
 
-        return finalizeAndProcess();
+    /**
+     * @return the index where the line after the one starting at {@code lineStart} starts, or -1 if there's none
+     */
+    private static int nextLineStart(String input, int lineStart) {
+        int lineBreak = Parsing.findLineBreak(input, lineStart);
+        return lineBreak != -1 ? afterLineBreak(input, lineBreak) : -1;
     }
 
-    public Document parse(Reader input) throws IOException {
+    private static int afterLineBreak(String input, int lineBreak) {
+        if (lineBreak + 1 < input.length() && input.charAt(lineBreak) == '\r' && input.charAt(lineBreak + 1) == '\n') {
+            return lineBreak + 2;
+        } else {
+            return lineBreak + 1;
+        }
+    }
+
+    private CharSequence line(String input, int beginIndex, int endIndex) {
+        if (lineViews) {
+            // The line (and everything sliced from it later) shares the characters of the input
+            return SubSequence.of(input, beginIndex, endIndex);
+        } else {
+            return input.substring(beginIndex, endIndex);
+        }
+    }
+
+    private void parseLines(Reader input) throws IOException {
         BufferedReader bufferedReader;
         if (input instanceof BufferedReader) {
             bufferedReader = (BufferedReader) input;
@@ -130,11 +333,12 @@ public class DocumentParser implements ParserState {
         }
 
         String line;
-        while ((line = bufferedReader.readLine()) != null) {
+        while (!stopped && (line = bufferedReader.readLine()) != null) {
             parseLine(line);
+            if (blockHandler != null && inlineParsing) {
+                handleCompleteParts();
+            }
         }
-
-        return finalizeAndProcess();
     }
 
     @Override
@@ -460,7 +664,7 @@ public class DocumentParser implements ParserState {
             // Add nodes into document before paragraph.
             paragraphParser.getBlock().insertBefore(definition);
 
-            String label = definition.getLabel();
+            NormalizedLabel label = NormalizedLabel.of(definition.getLabel());
             // spec: When there are multiple matching link reference definitions, the first is used
             if (!definitions.containsKey(label)) {
                 definitions.put(label, definition);
@@ -472,14 +676,124 @@ public class DocumentParser implements ParserState {
      * Walk through a block & children recursively, parsing string content into inline content where appropriate.
      */
     private void processInlines() {
-        InlineParserContextImpl context = new InlineParserContextImpl(delimiterProcessors, definitions);
-        InlineParser inlineParser = inlineParserFactory.create(context);
+        if (inlineParsingExecutor != null && allBlockParsers.size() > INLINE_PARSING_BATCH_SIZE) {
+            processInlinesInParallel();
+            return;
+        }
 
+        InlineParser inlineParser = getInlineParser();
         for (BlockParser blockParser : allBlockParsers) {
             blockParser.parseInlines(inlineParser);
         }
     }
 
+    private InlineParser getInlineParser() {
+        if (inlineParser == null) {
+            // The context sees definitions that are added later, which matters when streaming
+            InlineParserContextImpl context = new InlineParserContextImpl(delimiterProcessors, definitions);
+            inlineParser = inlineParserFactory.create(context);
+        }
+        return inlineParser;
+    }
+
+    /**
+     * Parse inlines of batches of blocks using the executor and this thread. Inline parsing of a block only changes
+     * that block, so blocks can be parsed independently. Inline parsers have state, so each task gets its own.
+     */
+    private void processInlinesInParallel() {
+        final InlineParserContextImpl context = new InlineParserContextImpl(delimiterProcessors, definitions);
+        List<FutureTask<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < allBlockParsers.size(); start += INLINE_PARSING_BATCH_SIZE) {
+            int end = Math.min(start + INLINE_PARSING_BATCH_SIZE, allBlockParsers.size());
+            final List<BlockParser> batch = allBlockParsers.subList(start, end);
+            FutureTask<Void> task = new FutureTask<>(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    InlineParser inlineParser = inlineParserFactory.create(context);
+                    for (BlockParser blockParser : batch) {
+                        blockParser.parseInlines(inlineParser);
+                    }
+                    return null;
+                }
+            });
+            tasks.add(task);
+            try {
+                inlineParsingExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // Run on this thread below
+            }
+        }
+
+        // Instead of only waiting, run the tasks that the executor hasn't started yet on this thread (running a task
+        // that was started already does nothing). Start from the last ones, which the executor gets to last. That way
+        // the tasks don't depend on free threads of the executor, which could otherwise deadlock when this thread is
+        // one of them.
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            tasks.get(i).run();
+        }
+        for (FutureTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    /**
+     * Pass the complete top-level blocks to the block handler and remove them from the document (so that they can be
+     * garbage collected after handling).
+     */
+    private void emitBlocks() {
+        if (inlineParsing) {
+            processInlines();
+        }
+        allBlockParsers.clear();
+
+        Node node = documentBlockParser.getBlock().getFirstChild();
+        while (node != null) {
+            Node next = node.getNext();
+            node.unlink();
+            blockHandler.handle(node);
+            node = next;
+        }
+    }
+
+    /**
+     * When streaming, let an open top-level block hand out its parts that are complete already, see
+     * {@link StreamingBlockParser}.
+     */
+    private void handleCompleteParts() {
+        if (openBlockParsers.size() < 2) {
+            return;
+        }
+        BlockParser blockParser = openBlockParsers.get(1).blockParser;
+        if (!(blockParser instanceof StreamingBlockParser)) {
+            return;
+        }
+
+        // Nodes before the block are complete, e.g. link reference definitions of a paragraph that the block replaced
+        Node block = blockParser.getBlock();
+        Node node = documentBlockParser.getBlock().getFirstChild();
+        while (node != block) {
+            Node next = node.getNext();
+            node.unlink();
+            blockHandler.handle(node);
+            node = next;
+        }
+
+        ((StreamingBlockParser) blockParser).handleCompleteParts(getInlineParser(), blockHandler);
+    }
+
     /**
      * Add block of type tag as a child of the tip. If the tip can't accept children, close and finalize it and try
      * its parent, and so on until we find a block that can accept children.
@@ -523,10 +837,35 @@ public class DocumentParser implements ParserState {
 
     private Document finalizeAndProcess() {
         closeBlockParsers(openBlockParsers.size());
-        processInlines();
+        if (lazyInlineParsing) {
+            setLazyInlines();
+        } else {
+            processInlines();
+        }
         return documentBlockParser.getBlock();
     }
 
+    /**
+     * Instead of parsing the inlines of all blocks now, parse the inlines of each block when its children are first
+     * accessed. This needs its own inline parser and definitions, as this document parser might be reused.
+     */
+    private void setLazyInlines() {
+        final InlineParserContextImpl context = new InlineParserContextImpl(delimiterProcessors,
+                new LinkedHashMap<>(definitions));
+        final InlineParser[] inlineParser = new InlineParser[1];
+        for (final BlockParser blockParser : allBlockParsers) {
+            blockParser.getBlock().setLazyChildren(new Runnable() {
+                @Override
+                public void run() {
+                    if (inlineParser[0] == null) {
+                        inlineParser[0] = inlineParserFactory.create(context);
+                    }
+                    blockParser.parseInlines(inlineParser[0]);
+                }
+            });
+        }
+    }
+
     private void closeBlockParsers(int count) {
         for (int i = 0; i < count; i++) {
             BlockParser blockParser = deactivateBlockParser().blockParser;
@@ -535,6 +874,18 @@ public class DocumentParser implements ParserState {
             // separate interface (e.g. BlockParserWithInlines) so that we only have to remember those that actually
             // have inlines to parse.
             allBlockParsers.add(blockParser);
+
+            Block block = blockParser.getBlock();
+            // Blocks without parent were removed when closing, e.g. a paragraph of only link reference definitions
+            if (checkStopCondition && !stopped && block.getParent() != null && stopCondition.test(block)) {
+                // Stop reading lines. The blocks that are still open get closed as usual, with the content so far.
+                stopped = true;
+            }
+
+            if (blockHandler != null && openBlockParsers.size() == 1) {
+                // We just closed a top-level block. All blocks before it are closed as well, so they're complete.
+                emitBlocks();
+            }
         }
     }
 
@@ -570,4 +921,10 @@ public class DocumentParser implements ParserState {
             this.sourceIndex = sourceIndex;
         }
     }
+
+    /**
+     * Stands in for the blocks before the part of a document that is parsed again, see {@link #parseBlocks}.
+     */
+    private static class PrecedingBlocks extends CustomBlock {
+    }
 }
@@ -1,6 +1,7 @@
 package org.commonmark.internal;
 
 import org.commonmark.internal.util.Parsing;
+import org.commonmark.internal.util.SubSequence;
 import org.commonmark.node.Block;
 import org.commonmark.node.FencedCodeBlock;
 import org.commonmark.parser.SourceLine;
@@ -51,7 +52,7 @@ public class FencedCodeBlockParser extends AbstractBlockParser {
         if (firstLine == null) {
             firstLine = line.getContent().toString();
         } else {
-            otherLines.append(line.getContent());
+            SubSequence.appendTo(otherLines, line.getContent());
             otherLines.append('\n');
         }
     }
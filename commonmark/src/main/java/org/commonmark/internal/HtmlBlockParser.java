@@ -1,72 +1,79 @@
 package org.commonmark.internal;
 
-import org.commonmark.internal.util.Parsing;
+import org.commonmark.internal.util.AsciiMatcher;
 import org.commonmark.node.Block;
 import org.commonmark.node.HtmlBlock;
 import org.commonmark.node.Paragraph;
 import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.block.*;
 
-import java.util.regex.Pattern;
-
 public class HtmlBlockParser extends AbstractBlockParser {
 
-    private static final Pattern[][] BLOCK_PATTERNS = new Pattern[][]{
-            {null, null}, // not used (no type 0)
-            {
-                    Pattern.compile("^<(?:script|pre|style)(?:\\s|>|$)", Pattern.CASE_INSENSITIVE),
-                    Pattern.compile("</(?:script|pre|style)>", Pattern.CASE_INSENSITIVE)
-            },
-            {
-                    Pattern.compile("^<!--"),
-                    Pattern.compile("-->")
-            },
-            {
-                    Pattern.compile("^<[?]"),
-                    Pattern.compile("\\?>")
-            },
-            {
-                    Pattern.compile("^<![A-Z]"),
-                    Pattern.compile(">")
-            },
-            {
-                    Pattern.compile("^<!\\[CDATA\\["),
-                    Pattern.compile("\\]\\]>")
-            },
-            {
-                    Pattern.compile("^</?(?:" +
-                            "address|article|aside|" +
-                            "base|basefont|blockquote|body|" +
-                            "caption|center|col|colgroup|" +
-                            "dd|details|dialog|dir|div|dl|dt|" +
-                            "fieldset|figcaption|figure|footer|form|frame|frameset|" +
-                            "h1|h2|h3|h4|h5|h6|head|header|hr|html|" +
-                            "iframe|" +
-                            "legend|li|link|" +
-                            "main|menu|menuitem|" +
-                            "nav|noframes|" +
-                            "ol|optgroup|option|" +
-                            "p|param|" +
-                            "section|source|summary|" +
-                            "table|tbody|td|tfoot|th|thead|title|tr|track|" +
-                            "ul" +
-                            ")(?:\\s|[/]?[>]|$)", Pattern.CASE_INSENSITIVE),
-                    null // terminated by blank line
-            },
-            {
-                    Pattern.compile("^(?:" + Parsing.OPENTAG + '|' + Parsing.CLOSETAG + ")\\s*$", Pattern.CASE_INSENSITIVE),
-                    null // terminated by blank line
+    // Block types 6 and 7 are terminated by a blank line instead of a condition on a line
+    private static final int BLANK_LINE_TERMINATED = 6;
+
+    private static final AsciiMatcher asciiLetter = AsciiMatcher.builder().range('A', 'Z').range('a', 'z').build();
+    private static final AsciiMatcher asciiLetterOrDigit = asciiLetter.newBuilder().range('0', '9').build();
+    private static final AsciiMatcher tagNameContinue = asciiLetterOrDigit.newBuilder().c('-').build();
+    private static final AsciiMatcher attributeStart = asciiLetter.newBuilder().c('_').c(':').build();
+    private static final AsciiMatcher attributeContinue = attributeStart.newBuilder().range('0', '9').c('.').c('-').build();
+    // Same as \s in a regex
+    private static final AsciiMatcher whitespace = AsciiMatcher.builder()
+            .c(' ').c('\t').c('\n').c('\u000B').c('\f').c('\r').build();
+    private static final AsciiMatcher unquotedValueEnd = AsciiMatcher.builder()
+            .range('\u0000', ' ').c('"').c('\'').c('=').c('<').c('>').c('`').build();
+
+    private static final String[] RAW_TEXT_TAGS = {"script", "pre", "style"};
+
+    /**
+     * Tag names of type 6 blocks, indexed by their first letter ('a' is 0).
+     */
+    private static final String[][] BLOCK_TAGS = new String[26][];
+
+    static {
+        String[] tags = {
+                "address", "article", "aside",
+                "base", "basefont", "blockquote", "body",
+                "caption", "center", "col", "colgroup",
+                "dd", "details", "dialog", "dir", "div", "dl", "dt",
+                "fieldset", "figcaption", "figure", "footer", "form", "frame", "frameset",
+                "h1", "h2", "h3", "h4", "h5", "h6", "head", "header", "hr", "html",
+                "iframe",
+                "legend", "li", "link",
+                "main", "menu", "menuitem",
+                "nav", "noframes",
+                "ol", "optgroup", "option",
+                "p", "param",
+                "section", "source", "summary",
+                "table", "tbody", "td", "tfoot", "th", "thead", "title", "tr", "track",
+                "ul"
+        };
+        for (char first = 'a'; first <= 'z'; first++) {
+            int count = 0;
+            for (String tag : tags) {
+                if (tag.charAt(0) == first) {
+                    count++;
+                }
+            }
+            String[] withFirst = new String[count];
+            int i = 0;
+            for (String tag : tags) {
+                if (tag.charAt(0) == first) {
+                    withFirst[i++] = tag;
+                }
             }
-    };
+            BLOCK_TAGS[first - 'a'] = withFirst;
+        }
+    }
 
     private final HtmlBlock block = new HtmlBlock();
-    private final Pattern closingPattern;
+    private final int blockType;
 
     private boolean finished = false;
     private BlockContent content = new BlockContent();
 
-    private HtmlBlockParser(Pattern closingPattern) {
-        this.closingPattern = closingPattern;
+    private HtmlBlockParser(int blockType) {
+        this.blockType = blockType;
     }
 
     @Override
@@ -81,7 +88,7 @@ public class HtmlBlockParser extends AbstractBlockParser {
         }
 
         // Blank line ends type 6 and type 7 blocks
-        if (state.isBlank() && closingPattern == null) {
+        if (state.isBlank() && blockType >= BLANK_LINE_TERMINATED) {
             return BlockContinue.none();
         } else {
             return BlockContinue.atIndex(state.getIndex());
@@ -92,7 +99,7 @@ public class HtmlBlockParser extends AbstractBlockParser {
     public void addLine(SourceLine line) {
         content.add(line.getContent());
 
-        if (closingPattern != null && closingPattern.matcher(line.getContent()).find()) {
+        if (blockType < BLANK_LINE_TERMINATED && isClosed(blockType, line.getContent())) {
             finished = true;
         }
     }
@@ -103,6 +110,235 @@ public class HtmlBlockParser extends AbstractBlockParser {
         content = null;
     }
 
+    /**
+     * @return the type (1 to 7) of the HTML block that starts at {@code start} ({@code <}), or 0 if none does
+     */
+    private static int getStartType(CharSequence line, int start, boolean canBeType7) {
+        int length = line.length();
+        int i = start + 1;
+        if (i == length) {
+            return 0;
+        }
+        char c = line.charAt(i);
+        if (c == '!') {
+            if (startsWith(line, i + 1, "--")) {
+                return 2;
+            } else if (i + 1 < length && line.charAt(i + 1) >= 'A' && line.charAt(i + 1) <= 'Z') {
+                return 4;
+            } else if (startsWith(line, i + 1, "[CDATA[")) {
+                return 5;
+            }
+            return 0;
+        } else if (c == '?') {
+            return 3;
+        }
+
+        boolean closing = c == '/';
+        int nameStart = closing ? i + 1 : i;
+        int nameEnd = nameStart;
+        while (nameEnd < length && asciiLetterOrDigit.matches(line.charAt(nameEnd))) {
+            nameEnd++;
+        }
+
+        if (!closing && endsRawTextTagName(line, nameEnd) && indexOfIgnoreCase(RAW_TEXT_TAGS, line, nameStart, nameEnd) != -1) {
+            return 1;
+        }
+        if (endsBlockTagName(line, nameEnd) && isBlockTag(line, nameStart, nameEnd)) {
+            return 6;
+        }
+        if (canBeType7 && isTag(line, start)) {
+            return 7;
+        }
+        return 0;
+    }
+
+    private static boolean endsRawTextTagName(CharSequence line, int nameEnd) {
+        // spec: followed by a space, a tab, the end of the line, the string >
+        return nameEnd == line.length() || whitespace.matches(line.charAt(nameEnd)) || line.charAt(nameEnd) == '>';
+    }
+
+    private static boolean endsBlockTagName(CharSequence line, int nameEnd) {
+        // spec: followed by a space, a tab, the end of the line, the string >, or the string />
+        return endsRawTextTagName(line, nameEnd) ||
+                (line.charAt(nameEnd) == '/' && nameEnd + 1 < line.length() && line.charAt(nameEnd + 1) == '>');
+    }
+
+    private static boolean isBlockTag(CharSequence line, int nameStart, int nameEnd) {
+        if (nameStart == nameEnd) {
+            return false;
+        }
+        char first = Character.toLowerCase(line.charAt(nameStart));
+        if (first < 'a' || first > 'z') {
+            return false;
+        }
+        return indexOfIgnoreCase(BLOCK_TAGS[first - 'a'], line, nameStart, nameEnd) != -1;
+    }
+
+    /**
+     * @return whether the rest of the line after {@code start} is a complete open tag or closing tag, optionally
+     * followed by whitespace
+     */
+    private static boolean isTag(CharSequence line, int start) {
+        int length = line.length();
+        int i = start + 1;
+        boolean closing = i < length && line.charAt(i) == '/';
+        if (closing) {
+            i++;
+        }
+        if (i == length || !asciiLetter.matches(line.charAt(i))) {
+            return false;
+        }
+        i = skip(tagNameContinue, line, i + 1);
+
+        if (closing) {
+            i = skip(whitespace, line, i);
+        } else {
+            i = skipAttributes(line, i);
+            if (i == -1) {
+                return false;
+            }
+            if (i < length && line.charAt(i) == '/') {
+                i++;
+            }
+        }
+        if (i == length || line.charAt(i) != '>') {
+            return false;
+        }
+        return skip(whitespace, line, i + 1) == length;
+    }
+
+    /**
+     * @return the index after the attributes and whitespace following them, or -1 if an attribute value is invalid
+     */
+    private static int skipAttributes(CharSequence line, int i) {
+        int length = line.length();
+        int afterWhitespace = skip(whitespace, line, i);
+        // Whitespace is required before each attribute
+        while (afterWhitespace != i && afterWhitespace < length && attributeStart.matches(line.charAt(afterWhitespace))) {
+            i = skip(attributeContinue, line, afterWhitespace + 1);
+            afterWhitespace = skip(whitespace, line, i);
+            if (afterWhitespace < length && line.charAt(afterWhitespace) == '=') {
+                i = skip(whitespace, line, afterWhitespace + 1);
+                if (i == length) {
+                    return -1;
+                }
+                char valueStart = line.charAt(i);
+                if (valueStart == '\'' || valueStart == '"') {
+                    int valueEnd = find(valueStart, line, i + 1);
+                    if (valueEnd == -1) {
+                        return -1;
+                    }
+                    i = valueEnd + 1;
+                } else {
+                    int valueEnd = i;
+                    while (valueEnd < length && !unquotedValueEnd.matches(line.charAt(valueEnd))) {
+                        valueEnd++;
+                    }
+                    if (valueEnd == i) {
+                        return -1;
+                    }
+                    i = valueEnd;
+                }
+                afterWhitespace = skip(whitespace, line, i);
+            }
+        }
+        return afterWhitespace;
+    }
+
+    private static boolean isClosed(int blockType, CharSequence line) {
+        switch (blockType) {
+            case 1:
+                // spec: line contains an end tag </script>, </pre>, or </style> (case-insensitive)
+                int length = line.length();
+                for (int i = find('<', line, 0); i != -1; i = find('<', line, i + 1)) {
+                    if (i + 1 < length && line.charAt(i + 1) == '/') {
+                        int nameEnd = skip(asciiLetter, line, i + 2);
+                        if (nameEnd < length && line.charAt(nameEnd) == '>' &&
+                                indexOfIgnoreCase(RAW_TEXT_TAGS, line, i + 2, nameEnd) != -1) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            case 2:
+                return contains(line, "-->");
+            case 3:
+                return contains(line, "?>");
+            case 4:
+                return find('>', line, 0) != -1;
+            case 5:
+                return contains(line, "]]>");
+            default:
+                return false;
+        }
+    }
+
+    private static int indexOfIgnoreCase(String[] names, CharSequence s, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name.length() == length && regionEqualsIgnoreCase(s, start, name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionEqualsIgnoreCase(CharSequence s, int start, String lowerCase) {
+        for (int i = 0; i < lowerCase.length(); i++) {
+            char c = s.charAt(start + i);
+            // ASCII only, the same as case-insensitive regex matching
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(CharSequence s, int start, String prefix) {
+        if (start + prefix.length() > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(start + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(CharSequence s, String needle) {
+        char first = needle.charAt(0);
+        for (int i = find(first, s, 0); i != -1; i = find(first, s, i + 1)) {
+            if (startsWith(s, i, needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int find(char c, CharSequence s, int start) {
+        int length = s.length();
+        for (int i = start; i < length; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skip(AsciiMatcher matcher, CharSequence s, int start) {
+        int length = s.length();
+        int i = start;
+        while (i < length && matcher.matches(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
     public static class Factory extends AbstractBlockParserFactory {
 
         @Override
@@ -111,17 +347,11 @@ public class HtmlBlockParser extends AbstractBlockParser {
             CharSequence line = state.getLine().getContent();
 
             if (state.getIndent() < 4 && line.charAt(nextNonSpace) == '<') {
-                for (int blockType = 1; blockType <= 7; blockType++) {
-                    // Type 7 can not interrupt a paragraph
-                    if (blockType == 7 && matchedBlockParser.getMatchedBlockParser().getBlock() instanceof Paragraph) {
-                        continue;
-                    }
-                    Pattern opener = BLOCK_PATTERNS[blockType][0];
-                    Pattern closer = BLOCK_PATTERNS[blockType][1];
-                    boolean matches = opener.matcher(line.subSequence(nextNonSpace, line.length())).find();
-                    if (matches) {
-                        return BlockStart.of(new HtmlBlockParser(closer)).atIndex(state.getIndex());
-                    }
+                // Type 7 can not interrupt a paragraph
+                boolean canBeType7 = !(matchedBlockParser.getMatchedBlockParser().getBlock() instanceof Paragraph);
+                int blockType = getStartType(line, nextNonSpace, canBeType7);
+                if (blockType != 0) {
+                    return BlockStart.of(new HtmlBlockParser(blockType)).atIndex(state.getIndex());
                 }
             }
             return BlockStart.none();
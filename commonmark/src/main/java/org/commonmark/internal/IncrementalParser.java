@@ -0,0 +1,239 @@
+package org.commonmark.internal;
+
+import org.commonmark.internal.util.NormalizedLabel;
+import org.commonmark.node.Block;
+import org.commonmark.node.Heading;
+import org.commonmark.node.LinkReferenceDefinition;
+import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SourceSpan;
+import org.commonmark.parser.PostProcessor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Re-parses the part of a document that is affected by an edit of its input, and splices the result into the
+ * previously parsed document.
+ * <p>
+ * The top-level blocks and their source spans tell us where to start and where we can stop: A top-level block starts
+ * at a line where parsing from scratch gives the same result as parsing the whole input up to there, so parsing can
+ * start at such a line. The block just before the edit is included because following lines can change it (e.g. lazy
+ * continuation lines, setext headings). After the edit, parsing can stop at the start line of a previous top-level
+ * block as soon as all blocks except the document are closed there, because from there on, the input is the same as
+ * before and is parsed the same way.
+ */
+public class IncrementalParser {
+
+    private final DocumentParser documentParser;
+    private final List<PostProcessor> postProcessors;
+
+    public IncrementalParser(DocumentParser documentParser, List<PostProcessor> postProcessors) {
+        this.documentParser = documentParser;
+        this.postProcessors = postProcessors;
+    }
+
+    /**
+     * @param document the previously parsed document, with source spans
+     * @param input the new input
+     * @param startLine the first changed line
+     * @param oldEndLine the line after the last changed line in the previous input
+     * @param newEndLine the line after the last changed line in the new input
+     * @return true if the document was updated, false if the edit can't be handled incrementally (in which case the
+     * document is unchanged)
+     */
+    public boolean reparse(Node document, String input, int startLine, int oldEndLine, int newEndLine) {
+        List<Node> blocks = new ArrayList<>();
+        for (Node node = document.getFirstChild(); node != null; node = node.getNext()) {
+            if (node.getSourceSpans().isEmpty()) {
+                return false;
+            }
+            blocks.add(node);
+        }
+
+        int first = 0;
+        int regionStartLine = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            int blockStartLine = getStartLine(blocks.get(i));
+            if (blockStartLine >= startLine) {
+                break;
+            }
+            first = i;
+            regionStartLine = blockStartLine;
+        }
+
+        // Start lines of unchanged blocks after the edit, in the new input
+        int candidate = first;
+        while (candidate < blocks.size() && getStartLine(blocks.get(candidate)) < oldEndLine) {
+            candidate++;
+        }
+        int lineDelta = newEndLine - oldEndLine;
+        int[] stopLines = new int[blocks.size() - candidate];
+        for (int i = 0; i < stopLines.length; i++) {
+            stopLines[i] = getStartLine(blocks.get(candidate + i)) + lineDelta;
+        }
+
+        int stopLine = documentParser.parseBlocks(input, regionStartLine, stopLines, first > 0);
+        int end = blocks.size();
+        if (stopLine != -1) {
+            end = candidate;
+            while (stopLines[end - candidate] != stopLine) {
+                end++;
+            }
+        }
+
+        // Link reference definitions apply to the whole document, so changing them can change any inline content.
+        if (!documentParser.getDefinitions().isEmpty()) {
+            return false;
+        }
+        for (int i = first; i < end; i++) {
+            if (containsDefinition(blocks.get(i))) {
+                return false;
+            }
+        }
+
+        Map<NormalizedLabel, LinkReferenceDefinition> definitions = new LinkedHashMap<>();
+        for (int i = 0; i < first; i++) {
+            collectDefinitions(blocks.get(i), definitions);
+        }
+        for (int i = end; i < blocks.size(); i++) {
+            collectDefinitions(blocks.get(i), definitions);
+        }
+        documentParser.addDefinitions(definitions);
+        Node parsed = documentParser.parseInlines();
+
+        Node insertBefore = end < blocks.size() ? blocks.get(end) : null;
+        for (int i = first; i < end; i++) {
+            blocks.get(i).unlink();
+        }
+        Node node = parsed.getFirstChild();
+        while (node != null) {
+            Node next = node.getNext();
+            node.unlink();
+            Node processed = postProcess(node);
+            if (insertBefore != null) {
+                insertBefore.insertBefore(processed);
+            } else {
+                document.appendChild(processed);
+            }
+            node = next;
+        }
+
+        if (lineDelta != 0) {
+            for (int i = end; i < blocks.size(); i++) {
+                shiftSourceSpans(blocks.get(i), lineDelta);
+            }
+        }
+        return true;
+    }
+
+    private Node postProcess(Node node) {
+        for (PostProcessor postProcessor : postProcessors) {
+            node = postProcessor.process(node);
+        }
+        return node;
+    }
+
+    private static int getStartLine(Node node) {
+        return node.getSourceSpans().get(0).getLineIndex();
+    }
+
+    private static boolean containsDefinition(Node node) {
+        if (node instanceof LinkReferenceDefinition) {
+            return true;
+        }
+        if (mayContainDefinitions(node)) {
+            for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+                if (containsDefinition(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Definitions are blocks, so they're only in blocks that have block children. Paragraphs and headings only have
+     * inline content, so don't look into them, which would also run their pending lazy tasks.
+     */
+    private static boolean mayContainDefinitions(Node node) {
+        return node instanceof Block && !(node instanceof Paragraph) && !(node instanceof Heading);
+    }
+
+    private static void collectDefinitions(Node node, Map<NormalizedLabel, LinkReferenceDefinition> definitions) {
+        if (node instanceof LinkReferenceDefinition) {
+            LinkReferenceDefinition definition = (LinkReferenceDefinition) node;
+            // spec: When there are multiple matching link reference definitions, the first is used
+            NormalizedLabel label = NormalizedLabel.of(definition.getLabel());
+            if (!definitions.containsKey(label)) {
+                definitions.put(label, definition);
+            }
+        } else if (mayContainDefinitions(node)) {
+            for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+                collectDefinitions(child, definitions);
+            }
+        }
+    }
+
+    /**
+     * Shift the source spans of {@code node} now, and the ones of its descendants when the children of each block are
+     * first accessed (see {@link Block#setLazyChildren(Runnable)}). That way, an edit that changes the number of lines
+     * only costs a little for each following top-level block, instead of walking all of their nodes.
+     */
+    private static void shiftSourceSpans(Node node, int lineDelta) {
+        List<SourceSpan> sourceSpans = node.getSourceSpans();
+        if (!sourceSpans.isEmpty()) {
+            List<SourceSpan> shifted = new ArrayList<>(sourceSpans.size());
+            for (SourceSpan sourceSpan : sourceSpans) {
+                shifted.add(SourceSpan.of(sourceSpan.getLineIndex() + lineDelta, sourceSpan.getColumnIndex(),
+                        sourceSpan.getLength()));
+            }
+            node.setSourceSpans(shifted);
+        }
+        if (node instanceof Block) {
+            Block block = (Block) node;
+            Runnable lazyChildren = block.getLazyChildren();
+            if (lazyChildren instanceof ShiftChildren) {
+                // Children weren't accessed since the previous edit, add up the shifts instead of adding another task
+                ((ShiftChildren) lazyChildren).lineDelta += lineDelta;
+            } else {
+                block.setLazyChildren(new ShiftChildren(block, lazyChildren, lineDelta));
+            }
+        } else {
+            for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+                shiftSourceSpans(child, lineDelta);
+            }
+        }
+    }
+
+    /**
+     * Shifts the source spans of the children of a block when they are first accessed. Children that are added by a
+     * pending task (e.g. lazy inline parsing) have unshifted spans as well, so that runs first.
+     */
+    private static class ShiftChildren implements Runnable {
+
+        private final Block block;
+        private final Runnable pending;
+        private int lineDelta;
+
+        ShiftChildren(Block block, Runnable pending, int lineDelta) {
+            this.block = block;
+            this.pending = pending;
+            this.lineDelta = lineDelta;
+        }
+
+        @Override
+        public void run() {
+            if (pending != null) {
+                pending.run();
+            }
+            if (lineDelta != 0) {
+                for (Node child = block.getFirstChild(); child != null; child = child.getNext()) {
+                    shiftSourceSpans(child, lineDelta);
+                }
+            }
+        }
+    }
+}
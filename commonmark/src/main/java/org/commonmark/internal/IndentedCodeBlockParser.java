@@ -1,6 +1,7 @@
 package org.commonmark.internal;
 
 import org.commonmark.internal.util.Parsing;
+import org.commonmark.internal.util.SubSequence;
 import org.commonmark.node.Block;
 import org.commonmark.node.IndentedCodeBlock;
 import org.commonmark.node.Paragraph;
@@ -48,7 +49,7 @@ public class IndentedCodeBlockParser extends AbstractBlockParser {
 
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < lastNonBlank + 1; i++) {
-            sb.append(lines.get(i));
+            SubSequence.appendTo(sb, lines.get(i));
             sb.append('\n');
         }
 
@@ -0,0 +1,130 @@
+package org.commonmark.internal;
+
+import org.commonmark.internal.inline.*;
+import org.commonmark.parser.delimiter.DelimiterProcessor;
+
+import java.util.*;
+
+/**
+ * Lookup of delimiter processors and inline content parsers by character, for {@link InlineParserImpl}.
+ * <p>
+ * The lookup happens for every special character of the input, so ASCII characters (which all the built-in ones are)
+ * are looked up in arrays instead of maps with boxed keys. Other characters (from custom delimiter processors) go
+ * through a map.
+ * <p>
+ * A table only depends on the configured delimiter processors and on whether literals are views of the input (see
+ * {@link #isLazyLiterals()}), so it's built once per parser and shared between inline parser instances. It's
+ * immutable after construction, and the inline content parsers are stateless.
+ */
+public class InlineDispatchTable {
+
+    private static final int ASCII_SIZE = 128;
+
+    private final DelimiterProcessor[] asciiDelimiterProcessors = new DelimiterProcessor[ASCII_SIZE];
+    private final Map<Character, DelimiterProcessor> otherDelimiterProcessors = new HashMap<>();
+    private final InlineContentParser[][] asciiInlineParsers = new InlineContentParser[ASCII_SIZE][];
+    private final Map<Character, InlineContentParser[]> otherInlineParsers = new HashMap<>();
+
+    /**
+     * Index of each delimiter character plus one (so that 0 means "not a delimiter character"), for ASCII.
+     */
+    private final int[] asciiDelimiterIndexes = new int[ASCII_SIZE];
+    private final char[] delimiterCharacters;
+    private final BitSet specialCharacters;
+    private final boolean lazyLiterals;
+
+    public InlineDispatchTable(List<DelimiterProcessor> customDelimiterProcessors) {
+        this(customDelimiterProcessors, false);
+    }
+
+    public InlineDispatchTable(List<DelimiterProcessor> customDelimiterProcessors, boolean lazyLiterals) {
+        this.lazyLiterals = lazyLiterals;
+        Map<Character, DelimiterProcessor> delimiterProcessors =
+                InlineParserImpl.calculateDelimiterProcessors(customDelimiterProcessors);
+        delimiterCharacters = new char[delimiterProcessors.size()];
+        int i = 0;
+        for (Map.Entry<Character, DelimiterProcessor> entry : delimiterProcessors.entrySet()) {
+            char c = entry.getKey();
+            if (c < ASCII_SIZE) {
+                asciiDelimiterProcessors[c] = entry.getValue();
+                asciiDelimiterIndexes[c] = i + 1;
+            } else {
+                otherDelimiterProcessors.put(c, entry.getValue());
+            }
+            delimiterCharacters[i++] = c;
+        }
+
+        Map<Character, InlineContentParser[]> inlineParsers = new HashMap<>();
+        inlineParsers.put('\\', new InlineContentParser[]{new BackslashInlineParser()});
+        inlineParsers.put('`', new InlineContentParser[]{new BackticksInlineParser(lazyLiterals)});
+        inlineParsers.put('&', new InlineContentParser[]{new EntityInlineParser()});
+        inlineParsers.put('<', new InlineContentParser[]{new AutolinkInlineParser(), new HtmlInlineParser(lazyLiterals)});
+        for (Map.Entry<Character, InlineContentParser[]> entry : inlineParsers.entrySet()) {
+            char c = entry.getKey();
+            if (c < ASCII_SIZE) {
+                asciiInlineParsers[c] = entry.getValue();
+            } else {
+                otherInlineParsers.put(c, entry.getValue());
+            }
+        }
+
+        specialCharacters = InlineParserImpl.calculateSpecialCharacters(delimiterProcessors.keySet(), inlineParsers.keySet());
+    }
+
+    /**
+     * @return whether literals of text, code and inline HTML nodes should be views of the input instead of strings
+     */
+    public boolean isLazyLiterals() {
+        return lazyLiterals;
+    }
+
+    /**
+     * @return whether the character needs special handling, i.e. whether it can't be part of plain text
+     */
+    public boolean isSpecialCharacter(char c) {
+        return specialCharacters.get(c);
+    }
+
+    /**
+     * @return the delimiter processor for the character, or null if it's not a delimiter character
+     */
+    public DelimiterProcessor getDelimiterProcessor(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiDelimiterProcessors[c];
+        }
+        return otherDelimiterProcessors.get(c);
+    }
+
+    /**
+     * @return the inline content parsers to try for the character, or null if there are none
+     */
+    public InlineContentParser[] getInlineParsers(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiInlineParsers[c];
+        }
+        return otherInlineParsers.get(c);
+    }
+
+    /**
+     * @return the number of delimiter characters, see {@link #getDelimiterIndex}
+     */
+    public int getDelimiterCount() {
+        return delimiterCharacters.length;
+    }
+
+    /**
+     * @param c a delimiter character (one that has a delimiter processor)
+     * @return a distinct index for each delimiter character, between 0 (inclusive) and {@link #getDelimiterCount()}
+     * (exclusive)
+     */
+    public int getDelimiterIndex(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiDelimiterIndexes[c] - 1;
+        }
+        int index = 0;
+        while (delimiterCharacters[index] != c) {
+            index++;
+        }
+        return index;
+    }
+}
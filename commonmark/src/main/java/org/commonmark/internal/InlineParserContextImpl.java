@@ -1,5 +1,6 @@
 package org.commonmark.internal;
 
+import org.commonmark.internal.util.NormalizedLabel;
 import org.commonmark.node.LinkReferenceDefinition;
 import org.commonmark.parser.InlineParserContext;
 import org.commonmark.parser.delimiter.DelimiterProcessor;
@@ -10,10 +11,10 @@ import java.util.Map;
 public class InlineParserContextImpl implements InlineParserContext {
 
     private final List<DelimiterProcessor> delimiterProcessors;
-    private final Map<String, LinkReferenceDefinition> linkReferenceDefinitions;
+    private final Map<NormalizedLabel, LinkReferenceDefinition> linkReferenceDefinitions;
 
     public InlineParserContextImpl(List<DelimiterProcessor> delimiterProcessors,
-                                   Map<String, LinkReferenceDefinition> linkReferenceDefinitions) {
+                                   Map<NormalizedLabel, LinkReferenceDefinition> linkReferenceDefinitions) {
         this.delimiterProcessors = delimiterProcessors;
         this.linkReferenceDefinitions = linkReferenceDefinitions;
     }
@@ -25,6 +26,13 @@ public class InlineParserContextImpl implements InlineParserContext {
 
     @Override
     public LinkReferenceDefinition getLinkReferenceDefinition(String label) {
+        return linkReferenceDefinitions.get(NormalizedLabel.of(label));
+    }
+
+    /**
+     * Look up a definition by a label that doesn't need to be normalized first.
+     */
+    public LinkReferenceDefinition getLinkReferenceDefinition(NormalizedLabel label) {
         return linkReferenceDefinitions.get(label);
     }
 }
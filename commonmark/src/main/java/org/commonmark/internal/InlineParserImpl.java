@@ -4,7 +4,9 @@ import org.commonmark.internal.inline.Scanner;
 import org.commonmark.internal.inline.*;
 import org.commonmark.internal.util.Escaping;
 import org.commonmark.internal.util.LinkScanner;
+import org.commonmark.internal.util.NormalizedLabel;
 import org.commonmark.internal.util.Parsing;
+import org.commonmark.internal.util.SubSequence;
 import org.commonmark.node.*;
 import org.commonmark.parser.InlineParser;
 import org.commonmark.parser.InlineParserContext;
@@ -15,15 +17,16 @@ import java.util.*;
 
 public class InlineParserImpl implements InlineParser, InlineParserState {
 
-    private final BitSet specialCharacters;
-    private final Map<Character, DelimiterProcessor> delimiterProcessors;
+    private final InlineDispatchTable dispatchTable;
     private final InlineParserContext context;
-    private final Map<Character, List<InlineContentParser>> inlineParsers;
 
     private Scanner scanner;
     private boolean includeSourceSpans;
     private int trailingSpaces;
 
+    // Reused for normalizing labels to look up
+    private final StringBuilder labelBuffer = new StringBuilder();
+
     /**
      * Top delimiter (emphasis, strong emphasis or custom emphasis). (Brackets are on a separate stack, different
      * from the algorithm described in the spec.)
@@ -36,16 +39,15 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     private Bracket lastBracket;
 
     public InlineParserImpl(InlineParserContext inlineParserContext) {
-        this.delimiterProcessors = calculateDelimiterProcessors(inlineParserContext.getCustomDelimiterProcessors());
+        this(inlineParserContext, new InlineDispatchTable(inlineParserContext.getCustomDelimiterProcessors()));
+    }
 
+    /**
+     * @param dispatchTable table for the delimiter processors of the context, can be shared between instances
+     */
+    public InlineParserImpl(InlineParserContext inlineParserContext, InlineDispatchTable dispatchTable) {
+        this.dispatchTable = dispatchTable;
         this.context = inlineParserContext;
-        this.inlineParsers = new HashMap<>();
-        this.inlineParsers.put('\\', Collections.<InlineContentParser>singletonList(new BackslashInlineParser()));
-        this.inlineParsers.put('`', Collections.<InlineContentParser>singletonList(new BackticksInlineParser()));
-        this.inlineParsers.put('&', Collections.<InlineContentParser>singletonList(new EntityInlineParser()));
-        this.inlineParsers.put('<', Arrays.asList(new AutolinkInlineParser(), new HtmlInlineParser()));
-
-        this.specialCharacters = calculateSpecialCharacters(this.delimiterProcessors.keySet(), inlineParsers.keySet());
     }
 
     public static BitSet calculateSpecialCharacters(Set<Character> delimiterCharacters, Set<Character> characters) {
@@ -139,7 +141,8 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     }
 
     private Text text(SourceLines sourceLines) {
-        Text text = new Text(sourceLines.getContent());
+        Text text = new Text();
+        text.setLiteralView(dispatchTable.isLazyLiterals() ? sourceLines.getContentView() : sourceLines.getContent());
         text.setSourceSpans(sourceLines.getSourceSpans());
         return text;
     }
@@ -166,11 +169,11 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         }
 
         // No inline parser, delimiter or other special handling.
-        if (!specialCharacters.get(c)) {
+        if (!dispatchTable.isSpecialCharacter(c)) {
             return Collections.singletonList(parseText());
         }
 
-        List<InlineContentParser> inlineParsers = this.inlineParsers.get(c);
+        InlineContentParser[] inlineParsers = dispatchTable.getInlineParsers(c);
         if (inlineParsers != null) {
             Position position = scanner.position();
             for (InlineContentParser inlineParser : inlineParsers) {
@@ -190,7 +193,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             }
         }
 
-        DelimiterProcessor delimiterProcessor = delimiterProcessors.get(c);
+        DelimiterProcessor delimiterProcessor = dispatchTable.getDelimiterProcessor(c);
         if (delimiterProcessor != null) {
             List<? extends Node> nodes = parseDelimiters(delimiterProcessor, c);
             if (nodes != null) {
@@ -323,8 +326,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             }
 
             if (ref != null) {
-                String label = Escaping.normalizeLabelContent(ref);
-                LinkReferenceDefinition definition = context.getLinkReferenceDefinition(label);
+                LinkReferenceDefinition definition = getLinkReferenceDefinition(ref);
                 if (definition != null) {
                     dest = definition.getDestination();
                     title = definition.getTitle();
@@ -453,6 +455,14 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         return content;
     }
 
+    private LinkReferenceDefinition getLinkReferenceDefinition(String label) {
+        if (context instanceof InlineParserContextImpl) {
+            // Look up without building a string for the normalized label
+            return ((InlineParserContextImpl) context).getLinkReferenceDefinition(NormalizedLabel.of(label, labelBuffer));
+        }
+        return context.getLinkReferenceDefinition(Escaping.normalizeLabelContent(label));
+    }
+
     private Node parseLineBreak() {
         scanner.next();
 
@@ -472,27 +482,28 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         char c;
         while (true) {
             c = scanner.peek();
-            if (c == Scanner.END || specialCharacters.get(c)) {
+            if (c == Scanner.END || dispatchTable.isSpecialCharacter(c)) {
                 break;
             }
             scanner.next();
         }
 
         SourceLines source = scanner.getSource(start, scanner.position());
-        String content = source.getContent();
+        CharSequence content = dispatchTable.isLazyLiterals() ? source.getContentView() : source.getContent();
 
         if (c == '\n') {
             // We parsed until the end of the line. Trim any trailing spaces and remember them (for hard line breaks).
             int end = Parsing.skipBackwards(' ', content, content.length() - 1, 0) + 1;
             trailingSpaces = content.length() - end;
-            content = content.substring(0, end);
+            content = content.subSequence(0, end);
         } else if (c == Scanner.END) {
             // For the last line, both tabs and spaces are trimmed for some reason (checked with commonmark.js).
             int end = Parsing.skipSpaceTabBackwards(content, content.length() - 1, 0) + 1;
-            content = content.substring(0, end);
+            content = content.subSequence(0, end);
         }
 
-        Text text = new Text(content);
+        Text text = new Text();
+        text.setLiteralView(content);
         text.setSourceSpans(source.getSourceSpans());
         return text;
     }
@@ -550,7 +561,8 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
 
     private void processDelimiters(Delimiter stackBottom) {
 
-        Map<Character, Delimiter> openersBottom = new HashMap<>();
+        // Lower bounds for searching openers, see openersBottomIndex. Allocated when needed.
+        Delimiter[] openersBottom = null;
 
         // find first closer above stackBottom:
         Delimiter closer = lastDelimiter;
@@ -561,7 +573,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         while (closer != null) {
             char delimiterChar = closer.delimiterChar;
 
-            DelimiterProcessor delimiterProcessor = delimiterProcessors.get(delimiterChar);
+            DelimiterProcessor delimiterProcessor = dispatchTable.getDelimiterProcessor(delimiterChar);
             if (!closer.canClose() || delimiterProcessor == null) {
                 closer = closer.next;
                 continue;
@@ -573,8 +585,10 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             int usedDelims = 0;
             boolean openerFound = false;
             boolean potentialOpenerFound = false;
+            int openersBottomIndex = openersBottomIndex(closer);
+            Delimiter openerBottom = openersBottom != null ? openersBottom[openersBottomIndex] : null;
             Delimiter opener = closer.previous;
-            while (opener != null && opener != stackBottom && opener != openersBottom.get(delimiterChar)) {
+            while (opener != null && opener != stackBottom && opener != openerBottom) {
                 if (opener.canOpen() && opener.delimiterChar == openingDelimiterChar) {
                     potentialOpenerFound = true;
                     usedDelims = delimiterProcessor.process(opener, closer);
@@ -587,15 +601,20 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             }
 
             if (!openerFound) {
-                if (!potentialOpenerFound) {
+                if (!potentialOpenerFound || delimiterProcessor instanceof EmphasisDelimiterProcessor) {
                     // Set lower bound for future searches for openers.
-                    // Only do this when we didn't even have a potential
+                    // For emphasis, whether an opener is rejected only depends on the opener and the things that are
+                    // part of the index (see openersBottomIndex), so the openers we just looked at would get rejected
+                    // again by later closers with the same index.
+                    // For other delimiters, only do this when we didn't even have a potential
                     // opener (one that matches the character and can open).
                     // If an opener was rejected because of the number of
-                    // delimiters (e.g. because of the "multiple of 3" rule),
-                    // we want to consider it next time because the number
+                    // delimiters, we want to consider it next time because the number
                     // of delimiters can change as we continue processing.
-                    openersBottom.put(delimiterChar, closer.previous);
+                    if (openersBottom == null) {
+                        openersBottom = new Delimiter[dispatchTable.getDelimiterCount() * 6];
+                    }
+                    openersBottom[openersBottomIndex] = closer.previous;
                     if (!closer.canOpen()) {
                         // We can remove a closer that can't be an opener,
                         // once we've seen there's no matching opener:
@@ -636,6 +655,16 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         }
     }
 
+    /**
+     * Index for the lower bound of the opener search for a closer. Like in cmark, it's not just keyed by the delimiter
+     * character, but also whether the closer can open and its original length modulo 3. That's what the "multiple of 3"
+     * rule of emphasis depends on, so openers rejected for one closer are also rejected for closers with the same
+     * index, and we never have to look at them again.
+     */
+    private int openersBottomIndex(Delimiter closer) {
+        return dispatchTable.getDelimiterIndex(closer.delimiterChar) * 6 + (closer.canOpen() ? 3 : 0) + closer.originalLength() % 3;
+    }
+
     private void removeDelimitersBetween(Delimiter opener, Delimiter closer) {
         Delimiter delimiter = closer.previous;
         while (delimiter != null && delimiter != opener) {
@@ -692,7 +721,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
                 if (first == null) {
                     first = text;
                 }
-                length += text.getLiteral().length();
+                length += text.getLiteralView().length();
                 last = text;
             } else {
                 mergeIfNeeded(first, last, length);
@@ -713,8 +742,9 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
 
     private void mergeIfNeeded(Text first, Text last, int textLength) {
         if (first != null && last != null && first != last) {
-            StringBuilder sb = new StringBuilder(textLength);
-            sb.append(first.getLiteral());
+            // Views of the input that are next to each other can be merged without copying
+            CharSequence merged = first.getLiteralView();
+            StringBuilder sb = null;
             SourceSpans sourceSpans = null;
             if (includeSourceSpans) {
                 sourceSpans = new SourceSpans();
@@ -723,7 +753,17 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             Node node = first.getNext();
             Node stop = last.getNext();
             while (node != stop) {
-                sb.append(((Text) node).getLiteral());
+                CharSequence literal = ((Text) node).getLiteralView();
+                CharSequence joined = sb == null ? SubSequence.joinAdjacent(merged, literal) : null;
+                if (joined != null) {
+                    merged = joined;
+                } else {
+                    if (sb == null) {
+                        sb = new StringBuilder(textLength);
+                        SubSequence.appendTo(sb, merged);
+                    }
+                    SubSequence.appendTo(sb, literal);
+                }
                 if (sourceSpans != null) {
                     sourceSpans.addAll(node.getSourceSpans());
                 }
@@ -732,8 +772,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
                 node = node.getNext();
                 unlink.unlink();
             }
-            String literal = sb.toString();
-            first.setLiteral(literal);
+            first.setLiteralView(sb != null ? sb.toString() : merged);
             if (sourceSpans != null) {
                 first.setSourceSpans(sourceSpans.getSourceSpans());
             }
@@ -4,6 +4,7 @@ import org.commonmark.internal.inline.Position;
 import org.commonmark.internal.inline.Scanner;
 import org.commonmark.internal.util.Escaping;
 import org.commonmark.internal.util.LinkScanner;
+import org.commonmark.internal.util.NormalizedLabel;
 import org.commonmark.node.LinkReferenceDefinition;
 import org.commonmark.node.SourceSpan;
 import org.commonmark.parser.SourceLine;
@@ -138,12 +139,12 @@ public class LinkReferenceDefinitionParser {
                 return false;
             }
 
-            String normalizedLabel = Escaping.normalizeLabelContent(label.toString());
+            NormalizedLabel normalizedLabel = NormalizedLabel.of(label);
             if (normalizedLabel.isEmpty()) {
                 return false;
             }
 
-            this.normalizedLabel = normalizedLabel;
+            this.normalizedLabel = normalizedLabel.toString();
             state = State.DESTINATION;
 
             scanner.whitespace();
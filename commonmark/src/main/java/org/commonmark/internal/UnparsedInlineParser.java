@@ -0,0 +1,17 @@
+package org.commonmark.internal;
+
+import org.commonmark.node.Node;
+import org.commonmark.node.UnparsedInlines;
+import org.commonmark.parser.InlineParser;
+import org.commonmark.parser.SourceLines;
+
+/**
+ * Inline parser that keeps the inline content as it is, for parsing only blocks.
+ */
+public class UnparsedInlineParser implements InlineParser {
+
+    @Override
+    public void parse(SourceLines lines, Node node) {
+        node.appendChild(new UnparsedInlines(lines));
+    }
+}
@@ -10,6 +10,19 @@ import org.commonmark.parser.SourceLines;
  */
 public class BackticksInlineParser implements InlineContentParser {
 
+    private final boolean lazyLiterals;
+
+    public BackticksInlineParser() {
+        this(false);
+    }
+
+    /**
+     * @param lazyLiterals whether literals should be views of the input where possible
+     */
+    public BackticksInlineParser(boolean lazyLiterals) {
+        this.lazyLiterals = lazyLiterals;
+    }
+
     @Override
     public ParsedInline tryParse(InlineParserState inlineParserState) {
         Scanner scanner = inlineParserState.scanner();
@@ -23,8 +36,13 @@ public class BackticksInlineParser implements InlineContentParser {
             if (count == openingTicks) {
                 Code node = new Code();
 
-                String content = scanner.getSource(afterOpening, beforeClosing).getContent();
-                content = content.replace('\n', ' ');
+                SourceLines source = scanner.getSource(afterOpening, beforeClosing);
+                CharSequence content;
+                if (lazyLiterals && source.getLines().size() == 1) {
+                    content = source.getContentView();
+                } else {
+                    content = source.getContent().replace('\n', ' ');
+                }
 
                 // spec: If the resulting string both begins and ends with a space character, but does not consist
                 // entirely of space characters, a single space character is removed from the front and back.
@@ -32,17 +50,18 @@ public class BackticksInlineParser implements InlineContentParser {
                         content.charAt(0) == ' ' &&
                         content.charAt(content.length() - 1) == ' ' &&
                         Parsing.hasNonSpace(content)) {
-                    content = content.substring(1, content.length() - 1);
+                    content = content.subSequence(1, content.length() - 1);
                 }
 
-                node.setLiteral(content);
+                node.setLiteralView(content);
                 return ParsedInline.of(node, scanner.position());
             }
         }
 
         // If we got here, we didn't find a matching closing backtick sequence.
         SourceLines source = scanner.getSource(start, afterOpening);
-        Text text = new Text(source.getContent());
+        Text text = new Text();
+        text.setLiteralView(lazyLiterals ? source.getContentView() : source.getContent());
         return ParsedInline.of(text, afterOpening);
     }
 }
@@ -47,7 +47,12 @@ public class EntityInlineParser implements InlineContentParser {
     }
 
     private ParsedInline entity(Scanner scanner, Position start) {
-        String text = scanner.getSource(start, scanner.position()).getContent();
-        return ParsedInline.of(new Text(Html5Entities.entityToString(text)), scanner.position());
+        Position end = scanner.position();
+        // An entity is always on a single line, so look it up in the line directly
+        String text = Html5Entities.entityToString(scanner.getLineContent(), start.index, end.index);
+        if (text == null) {
+            text = scanner.getSource(start, end).getContent();
+        }
+        return ParsedInline.of(new Text(text), end);
     }
 }
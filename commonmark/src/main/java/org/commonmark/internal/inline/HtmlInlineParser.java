@@ -2,6 +2,7 @@ package org.commonmark.internal.inline;
 
 import org.commonmark.internal.util.AsciiMatcher;
 import org.commonmark.node.HtmlInline;
+import org.commonmark.parser.SourceLines;
 
 /**
  * Attempt to parse inline HTML.
@@ -26,6 +27,19 @@ public class HtmlInlineParser implements InlineContentParser {
 
     private static final AsciiMatcher declaration = AsciiMatcher.builder().range('A', 'Z').build();
 
+    private final boolean lazyLiterals;
+
+    public HtmlInlineParser() {
+        this(false);
+    }
+
+    /**
+     * @param lazyLiterals whether literals should be views of the input where possible
+     */
+    public HtmlInlineParser(boolean lazyLiterals) {
+        this.lazyLiterals = lazyLiterals;
+    }
+
     @Override
     public ParsedInline tryParse(InlineParserState inlineParserState) {
         Scanner scanner = inlineParserState.scanner();
@@ -68,10 +82,10 @@ public class HtmlInlineParser implements InlineContentParser {
         return ParsedInline.none();
     }
 
-    private static ParsedInline htmlInline(Position start, Scanner scanner) {
-        String text = scanner.getSource(start, scanner.position()).getContent();
+    private ParsedInline htmlInline(Position start, Scanner scanner) {
+        SourceLines source = scanner.getSource(start, scanner.position());
         HtmlInline node = new HtmlInline();
-        node.setLiteral(text);
+        node.setLiteralView(lazyLiterals ? source.getContentView() : source.getContent());
         return ParsedInline.of(node, scanner.position());
     }
 
@@ -227,6 +227,13 @@ public class Scanner {
         return new Position(lineIndex, index);
     }
 
+    /**
+     * @return the content of the current line, for looking at a part of the line without copying it
+     */
+    public CharSequence getLineContent() {
+        return line.getContent();
+    }
+
     public void setPosition(Position position) {
         checkPosition(position.lineIndex, position.index);
         this.lineIndex = position.lineIndex;
@@ -3,24 +3,68 @@ package org.commonmark.internal.renderer;
 import org.commonmark.node.Node;
 import org.commonmark.renderer.NodeRenderer;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Lookup of the renderer for a node by the exact class of the node, which happens for every node that's rendered.
+ * <p>
+ * This is a hash table with open addressing keyed by class identity. Compared to a {@code HashMap}, a lookup only
+ * reads two arrays and doesn't need an entry object or {@code equals} calls. ({@code ClassValue} would be faster
+ * still, but isn't available on older Android versions.)
+ */
 public class NodeRendererMap {
 
-    private final Map<Class<? extends Node>, NodeRenderer> renderers = new HashMap<>(32);
+    private Class<?>[] types = new Class<?>[16];
+    private NodeRenderer[] renderers = new NodeRenderer[16];
+    private int size = 0;
 
     public void add(NodeRenderer nodeRenderer) {
         for (Class<? extends Node> nodeType : nodeRenderer.getNodeTypes()) {
             // Overwrite existing renderer
-            renderers.put(nodeType, nodeRenderer);
+            put(nodeType, nodeRenderer);
         }
     }
 
     public void render(Node node) {
-        NodeRenderer nodeRenderer = renderers.get(node.getClass());
-        if (nodeRenderer != null) {
-            nodeRenderer.render(node);
+        Class<?> type = node.getClass();
+        Class<?>[] types = this.types;
+        int mask = types.length - 1;
+        int i = System.identityHashCode(type) & mask;
+        Class<?> t;
+        while ((t = types[i]) != null) {
+            if (t == type) {
+                renderers[i].render(node);
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void put(Class<?> type, NodeRenderer nodeRenderer) {
+        // Keep the table at most half full so that probe sequences stay short
+        if ((size + 1) * 2 > types.length) {
+            resize(types.length * 2);
+        }
+        int mask = types.length - 1;
+        int i = System.identityHashCode(type) & mask;
+        while (types[i] != null && types[i] != type) {
+            i = (i + 1) & mask;
+        }
+        if (types[i] == null) {
+            types[i] = type;
+            size++;
+        }
+        renderers[i] = nodeRenderer;
+    }
+
+    private void resize(int capacity) {
+        Class<?>[] oldTypes = types;
+        NodeRenderer[] oldRenderers = renderers;
+        types = new Class<?>[capacity];
+        renderers = new NodeRenderer[capacity];
+        size = 0;
+        for (int i = 0; i < oldTypes.length; i++) {
+            if (oldTypes[i] != null) {
+                put(oldTypes[i], oldRenderers[i]);
+            }
         }
     }
 }
@@ -0,0 +1,126 @@
+package org.commonmark.internal.renderer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link Appendable} that encodes characters as UTF-8 directly into a byte buffer, which is written to an
+ * {@link OutputStream} when it's full and on {@link #flushBuffer()}.
+ * <p>
+ * This avoids building the output as chars first and then encoding it in a separate pass. Most of the output of a
+ * renderer is ASCII (tags and attributes), for which encoding is just a narrowing of the char.
+ */
+public class Utf8Appendable implements Appendable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+
+    /**
+     * A high surrogate from the end of the previous append, if the low surrogate could still follow.
+     */
+    private char highSurrogate = 0;
+
+    public Utf8Appendable(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        byte[] buffer = this.buffer;
+        int position = this.position;
+        for (int i = start; i < end; i++) {
+            char c = csq.charAt(i);
+            if (c < 0x80 && highSurrogate == 0) {
+                if (position == BUFFER_SIZE) {
+                    writeBuffer(position);
+                    position = 0;
+                }
+                buffer[position++] = (byte) c;
+            } else {
+                this.position = position;
+                encode(c);
+                position = this.position;
+            }
+        }
+        this.position = position;
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        encode(c);
+        return this;
+    }
+
+    /**
+     * Write the buffered bytes to the output stream. Doesn't flush the output stream itself.
+     */
+    public void flushBuffer() throws IOException {
+        if (highSurrogate != 0) {
+            // Unpaired surrogate at the end, encode it like String.getBytes does
+            highSurrogate = 0;
+            ensureSpace(1);
+            buffer[position++] = '?';
+        }
+        writeBuffer(position);
+        position = 0;
+    }
+
+    private void encode(char c) throws IOException {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                ensureSpace(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            ensureSpace(1);
+            buffer[position++] = '?';
+        }
+
+        if (c < 0x80) {
+            ensureSpace(1);
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            ensureSpace(2);
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            ensureSpace(1);
+            buffer[position++] = '?';
+        } else {
+            ensureSpace(3);
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void ensureSpace(int bytes) throws IOException {
+        if (position + bytes > BUFFER_SIZE) {
+            writeBuffer(position);
+            position = 0;
+        }
+    }
+
+    private void writeBuffer(int length) throws IOException {
+        if (length > 0) {
+            out.write(buffer, 0, length);
+        }
+    }
+}
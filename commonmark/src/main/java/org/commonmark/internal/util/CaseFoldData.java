@@ -0,0 +1,322 @@
+package org.commonmark.internal.util;
+
+/**
+ * The full case folding of Unicode 14.0 (the mappings with status C and F in
+ * https://www.unicode.org/Public/14.0.0/ucd/CaseFolding.txt), except for ASCII. Compiled into the class so that folding
+ * doesn't depend on the locale or the Unicode version of the JDK.
+ */
+class CaseFoldData {
+
+    /**
+     * The code points that change when folded, in ascending order. Each is followed by what it folds to (one to three
+     * code points) and {@code \0}.
+     */
+    static final String FOLDS = ""
+            + "\u00B5\u03BC\0\u00C0\u00E0\0\u00C1\u00E1\0\u00C2\u00E2\0\u00C3\u00E3\0\u00C4\u00E4\0"
+            + "\u00C5\u00E5\0\u00C6\u00E6\0\u00C7\u00E7\0\u00C8\u00E8\0\u00C9\u00E9\0\u00CA\u00EA\0"
+            + "\u00CB\u00EB\0\u00CC\u00EC\0\u00CD\u00ED\0\u00CE\u00EE\0\u00CF\u00EF\0\u00D0\u00F0\0"
+            + "\u00D1\u00F1\0\u00D2\u00F2\0\u00D3\u00F3\0\u00D4\u00F4\0\u00D5\u00F5\0\u00D6\u00F6\0"
+            + "\u00D8\u00F8\0\u00D9\u00F9\0\u00DA\u00FA\0\u00DB\u00FB\0\u00DC\u00FC\0\u00DD\u00FD\0"
+            + "\u00DE\u00FE\0\u00DFss\0\u0100\u0101\0\u0102\u0103\0\u0104\u0105\0\u0106\u0107\0"
+            + "\u0108\u0109\0\u010A\u010B\0\u010C\u010D\0\u010E\u010F\0\u0110\u0111\0\u0112\u0113\0"
+            + "\u0114\u0115\0\u0116\u0117\0\u0118\u0119\0\u011A\u011B\0\u011C\u011D\0\u011E\u011F\0"
+            + "\u0120\u0121\0\u0122\u0123\0\u0124\u0125\0\u0126\u0127\0\u0128\u0129\0\u012A\u012B\0"
+            + "\u012C\u012D\0\u012E\u012F\0\u0130i\u0307\0\u0132\u0133\0\u0134\u0135\0\u0136\u0137\0"
+            + "\u0139\u013A\0\u013B\u013C\0\u013D\u013E\0\u013F\u0140\0\u0141\u0142\0\u0143\u0144\0"
+            + "\u0145\u0146\0\u0147\u0148\0\u0149\u02BCn\0\u014A\u014B\0\u014C\u014D\0\u014E\u014F\0"
+            + "\u0150\u0151\0\u0152\u0153\0\u0154\u0155\0\u0156\u0157\0\u0158\u0159\0\u015A\u015B\0"
+            + "\u015C\u015D\0\u015E\u015F\0\u0160\u0161\0\u0162\u0163\0\u0164\u0165\0\u0166\u0167\0"
+            + "\u0168\u0169\0\u016A\u016B\0\u016C\u016D\0\u016E\u016F\0\u0170\u0171\0\u0172\u0173\0"
+            + "\u0174\u0175\0\u0176\u0177\0\u0178\u00FF\0\u0179\u017A\0\u017B\u017C\0\u017D\u017E\0"
+            + "\u017Fs\0\u0181\u0253\0\u0182\u0183\0\u0184\u0185\0\u0186\u0254\0\u0187\u0188\0"
+            + "\u0189\u0256\0\u018A\u0257\0\u018B\u018C\0\u018E\u01DD\0\u018F\u0259\0\u0190\u025B\0"
+            + "\u0191\u0192\0\u0193\u0260\0\u0194\u0263\0\u0196\u0269\0\u0197\u0268\0\u0198\u0199\0"
+            + "\u019C\u026F\0\u019D\u0272\0\u019F\u0275\0\u01A0\u01A1\0\u01A2\u01A3\0\u01A4\u01A5\0"
+            + "\u01A6\u0280\0\u01A7\u01A8\0\u01A9\u0283\0\u01AC\u01AD\0\u01AE\u0288\0\u01AF\u01B0\0"
+            + "\u01B1\u028A\0\u01B2\u028B\0\u01B3\u01B4\0\u01B5\u01B6\0\u01B7\u0292\0\u01B8\u01B9\0"
+            + "\u01BC\u01BD\0\u01C4\u01C6\0\u01C5\u01C6\0\u01C7\u01C9\0\u01C8\u01C9\0\u01CA\u01CC\0"
+            + "\u01CB\u01CC\0\u01CD\u01CE\0\u01CF\u01D0\0\u01D1\u01D2\0\u01D3\u01D4\0\u01D5\u01D6\0"
+            + "\u01D7\u01D8\0\u01D9\u01DA\0\u01DB\u01DC\0\u01DE\u01DF\0\u01E0\u01E1\0\u01E2\u01E3\0"
+            + "\u01E4\u01E5\0\u01E6\u01E7\0\u01E8\u01E9\0\u01EA\u01EB\0\u01EC\u01ED\0\u01EE\u01EF\0"
+            + "\u01F0j\u030C\0\u01F1\u01F3\0\u01F2\u01F3\0\u01F4\u01F5\0\u01F6\u0195\0\u01F7\u01BF\0"
+            + "\u01F8\u01F9\0\u01FA\u01FB\0\u01FC\u01FD\0\u01FE\u01FF\0\u0200\u0201\0\u0202\u0203\0"
+            + "\u0204\u0205\0\u0206\u0207\0\u0208\u0209\0\u020A\u020B\0\u020C\u020D\0\u020E\u020F\0"
+            + "\u0210\u0211\0\u0212\u0213\0\u0214\u0215\0\u0216\u0217\0\u0218\u0219\0\u021A\u021B\0"
+            + "\u021C\u021D\0\u021E\u021F\0\u0220\u019E\0\u0222\u0223\0\u0224\u0225\0\u0226\u0227\0"
+            + "\u0228\u0229\0\u022A\u022B\0\u022C\u022D\0\u022E\u022F\0\u0230\u0231\0\u0232\u0233\0"
+            + "\u023A\u2C65\0\u023B\u023C\0\u023D\u019A\0\u023E\u2C66\0\u0241\u0242\0\u0243\u0180\0"
+            + "\u0244\u0289\0\u0245\u028C\0\u0246\u0247\0\u0248\u0249\0\u024A\u024B\0\u024C\u024D\0"
+            + "\u024E\u024F\0\u0345\u03B9\0\u0370\u0371\0\u0372\u0373\0\u0376\u0377\0\u037F\u03F3\0"
+            + "\u0386\u03AC\0\u0388\u03AD\0\u0389\u03AE\0\u038A\u03AF\0\u038C\u03CC\0\u038E\u03CD\0"
+            + "\u038F\u03CE\0\u0390\u03B9\u0308\u0301\0\u0391\u03B1\0\u0392\u03B2\0\u0393\u03B3\0\u0394\u03B4\0"
+            + "\u0395\u03B5\0\u0396\u03B6\0\u0397\u03B7\0\u0398\u03B8\0\u0399\u03B9\0\u039A\u03BA\0"
+            + "\u039B\u03BB\0\u039C\u03BC\0\u039D\u03BD\0\u039E\u03BE\0\u039F\u03BF\0\u03A0\u03C0\0"
+            + "\u03A1\u03C1\0\u03A3\u03C3\0\u03A4\u03C4\0\u03A5\u03C5\0\u03A6\u03C6\0\u03A7\u03C7\0"
+            + "\u03A8\u03C8\0\u03A9\u03C9\0\u03AA\u03CA\0\u03AB\u03CB\0\u03B0\u03C5\u0308\u0301\0\u03C2\u03C3\0"
+            + "\u03CF\u03D7\0\u03D0\u03B2\0\u03D1\u03B8\0\u03D5\u03C6\0\u03D6\u03C0\0\u03D8\u03D9\0"
+            + "\u03DA\u03DB\0\u03DC\u03DD\0\u03DE\u03DF\0\u03E0\u03E1\0\u03E2\u03E3\0\u03E4\u03E5\0"
+            + "\u03E6\u03E7\0\u03E8\u03E9\0\u03EA\u03EB\0\u03EC\u03ED\0\u03EE\u03EF\0\u03F0\u03BA\0"
+            + "\u03F1\u03C1\0\u03F4\u03B8\0\u03F5\u03B5\0\u03F7\u03F8\0\u03F9\u03F2\0\u03FA\u03FB\0"
+            + "\u03FD\u037B\0\u03FE\u037C\0\u03FF\u037D\0\u0400\u0450\0\u0401\u0451\0\u0402\u0452\0"
+            + "\u0403\u0453\0\u0404\u0454\0\u0405\u0455\0\u0406\u0456\0\u0407\u0457\0\u0408\u0458\0"
+            + "\u0409\u0459\0\u040A\u045A\0\u040B\u045B\0\u040C\u045C\0\u040D\u045D\0\u040E\u045E\0"
+            + "\u040F\u045F\0\u0410\u0430\0\u0411\u0431\0\u0412\u0432\0\u0413\u0433\0\u0414\u0434\0"
+            + "\u0415\u0435\0\u0416\u0436\0\u0417\u0437\0\u0418\u0438\0\u0419\u0439\0\u041A\u043A\0"
+            + "\u041B\u043B\0\u041C\u043C\0\u041D\u043D\0\u041E\u043E\0\u041F\u043F\0\u0420\u0440\0"
+            + "\u0421\u0441\0\u0422\u0442\0\u0423\u0443\0\u0424\u0444\0\u0425\u0445\0\u0426\u0446\0"
+            + "\u0427\u0447\0\u0428\u0448\0\u0429\u0449\0\u042A\u044A\0\u042B\u044B\0\u042C\u044C\0"
+            + "\u042D\u044D\0\u042E\u044E\0\u042F\u044F\0\u0460\u0461\0\u0462\u0463\0\u0464\u0465\0"
+            + "\u0466\u0467\0\u0468\u0469\0\u046A\u046B\0\u046C\u046D\0\u046E\u046F\0\u0470\u0471\0"
+            + "\u0472\u0473\0\u0474\u0475\0\u0476\u0477\0\u0478\u0479\0\u047A\u047B\0\u047C\u047D\0"
+            + "\u047E\u047F\0\u0480\u0481\0\u048A\u048B\0\u048C\u048D\0\u048E\u048F\0\u0490\u0491\0"
+            + "\u0492\u0493\0\u0494\u0495\0\u0496\u0497\0\u0498\u0499\0\u049A\u049B\0\u049C\u049D\0"
+            + "\u049E\u049F\0\u04A0\u04A1\0\u04A2\u04A3\0\u04A4\u04A5\0\u04A6\u04A7\0\u04A8\u04A9\0"
+            + "\u04AA\u04AB\0\u04AC\u04AD\0\u04AE\u04AF\0\u04B0\u04B1\0\u04B2\u04B3\0\u04B4\u04B5\0"
+            + "\u04B6\u04B7\0\u04B8\u04B9\0\u04BA\u04BB\0\u04BC\u04BD\0\u04BE\u04BF\0\u04C0\u04CF\0"
+            + "\u04C1\u04C2\0\u04C3\u04C4\0\u04C5\u04C6\0\u04C7\u04C8\0\u04C9\u04CA\0\u04CB\u04CC\0"
+            + "\u04CD\u04CE\0\u04D0\u04D1\0\u04D2\u04D3\0\u04D4\u04D5\0\u04D6\u04D7\0\u04D8\u04D9\0"
+            + "\u04DA\u04DB\0\u04DC\u04DD\0\u04DE\u04DF\0\u04E0\u04E1\0\u04E2\u04E3\0\u04E4\u04E5\0"
+            + "\u04E6\u04E7\0\u04E8\u04E9\0\u04EA\u04EB\0\u04EC\u04ED\0\u04EE\u04EF\0\u04F0\u04F1\0"
+            + "\u04F2\u04F3\0\u04F4\u04F5\0\u04F6\u04F7\0\u04F8\u04F9\0\u04FA\u04FB\0\u04FC\u04FD\0"
+            + "\u04FE\u04FF\0\u0500\u0501\0\u0502\u0503\0\u0504\u0505\0\u0506\u0507\0\u0508\u0509\0"
+            + "\u050A\u050B\0\u050C\u050D\0\u050E\u050F\0\u0510\u0511\0\u0512\u0513\0\u0514\u0515\0"
+            + "\u0516\u0517\0\u0518\u0519\0\u051A\u051B\0\u051C\u051D\0\u051E\u051F\0\u0520\u0521\0"
+            + "\u0522\u0523\0\u0524\u0525\0\u0526\u0527\0\u0528\u0529\0\u052A\u052B\0\u052C\u052D\0"
+            + "\u052E\u052F\0\u0531\u0561\0\u0532\u0562\0\u0533\u0563\0\u0534\u0564\0\u0535\u0565\0"
+            + "\u0536\u0566\0\u0537\u0567\0\u0538\u0568\0\u0539\u0569\0\u053A\u056A\0\u053B\u056B\0"
+            + "\u053C\u056C\0\u053D\u056D\0\u053E\u056E\0\u053F\u056F\0\u0540\u0570\0\u0541\u0571\0"
+            + "\u0542\u0572\0\u0543\u0573\0\u0544\u0574\0\u0545\u0575\0\u0546\u0576\0\u0547\u0577\0"
+            + "\u0548\u0578\0\u0549\u0579\0\u054A\u057A\0\u054B\u057B\0\u054C\u057C\0\u054D\u057D\0"
+            + "\u054E\u057E\0\u054F\u057F\0\u0550\u0580\0\u0551\u0581\0\u0552\u0582\0\u0553\u0583\0"
+            + "\u0554\u0584\0\u0555\u0585\0\u0556\u0586\0\u0587\u0565\u0582\0\u10A0\u2D00\0\u10A1\u2D01\0"
+            + "\u10A2\u2D02\0\u10A3\u2D03\0\u10A4\u2D04\0\u10A5\u2D05\0\u10A6\u2D06\0\u10A7\u2D07\0"
+            + "\u10A8\u2D08\0\u10A9\u2D09\0\u10AA\u2D0A\0\u10AB\u2D0B\0\u10AC\u2D0C\0\u10AD\u2D0D\0"
+            + "\u10AE\u2D0E\0\u10AF\u2D0F\0\u10B0\u2D10\0\u10B1\u2D11\0\u10B2\u2D12\0\u10B3\u2D13\0"
+            + "\u10B4\u2D14\0\u10B5\u2D15\0\u10B6\u2D16\0\u10B7\u2D17\0\u10B8\u2D18\0\u10B9\u2D19\0"
+            + "\u10BA\u2D1A\0\u10BB\u2D1B\0\u10BC\u2D1C\0\u10BD\u2D1D\0\u10BE\u2D1E\0\u10BF\u2D1F\0"
+            + "\u10C0\u2D20\0\u10C1\u2D21\0\u10C2\u2D22\0\u10C3\u2D23\0\u10C4\u2D24\0\u10C5\u2D25\0"
+            + "\u10C7\u2D27\0\u10CD\u2D2D\0\u13F8\u13F0\0\u13F9\u13F1\0\u13FA\u13F2\0\u13FB\u13F3\0"
+            + "\u13FC\u13F4\0\u13FD\u13F5\0\u1C80\u0432\0\u1C81\u0434\0\u1C82\u043E\0\u1C83\u0441\0"
+            + "\u1C84\u0442\0\u1C85\u0442\0\u1C86\u044A\0\u1C87\u0463\0\u1C88\uA64B\0\u1C90\u10D0\0"
+            + "\u1C91\u10D1\0\u1C92\u10D2\0\u1C93\u10D3\0\u1C94\u10D4\0\u1C95\u10D5\0\u1C96\u10D6\0"
+            + "\u1C97\u10D7\0\u1C98\u10D8\0\u1C99\u10D9\0\u1C9A\u10DA\0\u1C9B\u10DB\0\u1C9C\u10DC\0"
+            + "\u1C9D\u10DD\0\u1C9E\u10DE\0\u1C9F\u10DF\0\u1CA0\u10E0\0\u1CA1\u10E1\0\u1CA2\u10E2\0"
+            + "\u1CA3\u10E3\0\u1CA4\u10E4\0\u1CA5\u10E5\0\u1CA6\u10E6\0\u1CA7\u10E7\0\u1CA8\u10E8\0"
+            + "\u1CA9\u10E9\0\u1CAA\u10EA\0\u1CAB\u10EB\0\u1CAC\u10EC\0\u1CAD\u10ED\0\u1CAE\u10EE\0"
+            + "\u1CAF\u10EF\0\u1CB0\u10F0\0\u1CB1\u10F1\0\u1CB2\u10F2\0\u1CB3\u10F3\0\u1CB4\u10F4\0"
+            + "\u1CB5\u10F5\0\u1CB6\u10F6\0\u1CB7\u10F7\0\u1CB8\u10F8\0\u1CB9\u10F9\0\u1CBA\u10FA\0"
+            + "\u1CBD\u10FD\0\u1CBE\u10FE\0\u1CBF\u10FF\0\u1E00\u1E01\0\u1E02\u1E03\0\u1E04\u1E05\0"
+            + "\u1E06\u1E07\0\u1E08\u1E09\0\u1E0A\u1E0B\0\u1E0C\u1E0D\0\u1E0E\u1E0F\0\u1E10\u1E11\0"
+            + "\u1E12\u1E13\0\u1E14\u1E15\0\u1E16\u1E17\0\u1E18\u1E19\0\u1E1A\u1E1B\0\u1E1C\u1E1D\0"
+            + "\u1E1E\u1E1F\0\u1E20\u1E21\0\u1E22\u1E23\0\u1E24\u1E25\0\u1E26\u1E27\0\u1E28\u1E29\0"
+            + "\u1E2A\u1E2B\0\u1E2C\u1E2D\0\u1E2E\u1E2F\0\u1E30\u1E31\0\u1E32\u1E33\0\u1E34\u1E35\0"
+            + "\u1E36\u1E37\0\u1E38\u1E39\0\u1E3A\u1E3B\0\u1E3C\u1E3D\0\u1E3E\u1E3F\0\u1E40\u1E41\0"
+            + "\u1E42\u1E43\0\u1E44\u1E45\0\u1E46\u1E47\0\u1E48\u1E49\0\u1E4A\u1E4B\0\u1E4C\u1E4D\0"
+            + "\u1E4E\u1E4F\0\u1E50\u1E51\0\u1E52\u1E53\0\u1E54\u1E55\0\u1E56\u1E57\0\u1E58\u1E59\0"
+            + "\u1E5A\u1E5B\0\u1E5C\u1E5D\0\u1E5E\u1E5F\0\u1E60\u1E61\0\u1E62\u1E63\0\u1E64\u1E65\0"
+            + "\u1E66\u1E67\0\u1E68\u1E69\0\u1E6A\u1E6B\0\u1E6C\u1E6D\0\u1E6E\u1E6F\0\u1E70\u1E71\0"
+            + "\u1E72\u1E73\0\u1E74\u1E75\0\u1E76\u1E77\0\u1E78\u1E79\0\u1E7A\u1E7B\0\u1E7C\u1E7D\0"
+            + "\u1E7E\u1E7F\0\u1E80\u1E81\0\u1E82\u1E83\0\u1E84\u1E85\0\u1E86\u1E87\0\u1E88\u1E89\0"
+            + "\u1E8A\u1E8B\0\u1E8C\u1E8D\0\u1E8E\u1E8F\0\u1E90\u1E91\0\u1E92\u1E93\0\u1E94\u1E95\0"
+            + "\u1E96h\u0331\0\u1E97t\u0308\0\u1E98w\u030A\0\u1E99y\u030A\0"
+            + "\u1E9Aa\u02BE\0\u1E9B\u1E61\0\u1E9Ess\0\u1EA0\u1EA1\0\u1EA2\u1EA3\0\u1EA4\u1EA5\0"
+            + "\u1EA6\u1EA7\0\u1EA8\u1EA9\0\u1EAA\u1EAB\0\u1EAC\u1EAD\0\u1EAE\u1EAF\0\u1EB0\u1EB1\0"
+            + "\u1EB2\u1EB3\0\u1EB4\u1EB5\0\u1EB6\u1EB7\0\u1EB8\u1EB9\0\u1EBA\u1EBB\0\u1EBC\u1EBD\0"
+            + "\u1EBE\u1EBF\0\u1EC0\u1EC1\0\u1EC2\u1EC3\0\u1EC4\u1EC5\0\u1EC6\u1EC7\0\u1EC8\u1EC9\0"
+            + "\u1ECA\u1ECB\0\u1ECC\u1ECD\0\u1ECE\u1ECF\0\u1ED0\u1ED1\0\u1ED2\u1ED3\0\u1ED4\u1ED5\0"
+            + "\u1ED6\u1ED7\0\u1ED8\u1ED9\0\u1EDA\u1EDB\0\u1EDC\u1EDD\0\u1EDE\u1EDF\0\u1EE0\u1EE1\0"
+            + "\u1EE2\u1EE3\0\u1EE4\u1EE5\0\u1EE6\u1EE7\0\u1EE8\u1EE9\0\u1EEA\u1EEB\0\u1EEC\u1EED\0"
+            + "\u1EEE\u1EEF\0\u1EF0\u1EF1\0\u1EF2\u1EF3\0\u1EF4\u1EF5\0\u1EF6\u1EF7\0\u1EF8\u1EF9\0"
+            + "\u1EFA\u1EFB\0\u1EFC\u1EFD\0\u1EFE\u1EFF\0\u1F08\u1F00\0\u1F09\u1F01\0\u1F0A\u1F02\0"
+            + "\u1F0B\u1F03\0\u1F0C\u1F04\0\u1F0D\u1F05\0\u1F0E\u1F06\0\u1F0F\u1F07\0\u1F18\u1F10\0"
+            + "\u1F19\u1F11\0\u1F1A\u1F12\0\u1F1B\u1F13\0\u1F1C\u1F14\0\u1F1D\u1F15\0\u1F28\u1F20\0"
+            + "\u1F29\u1F21\0\u1F2A\u1F22\0\u1F2B\u1F23\0\u1F2C\u1F24\0\u1F2D\u1F25\0\u1F2E\u1F26\0"
+            + "\u1F2F\u1F27\0\u1F38\u1F30\0\u1F39\u1F31\0\u1F3A\u1F32\0\u1F3B\u1F33\0\u1F3C\u1F34\0"
+            + "\u1F3D\u1F35\0\u1F3E\u1F36\0\u1F3F\u1F37\0\u1F48\u1F40\0\u1F49\u1F41\0\u1F4A\u1F42\0"
+            + "\u1F4B\u1F43\0\u1F4C\u1F44\0\u1F4D\u1F45\0\u1F50\u03C5\u0313\0\u1F52\u03C5\u0313\u0300\0"
+            + "\u1F54\u03C5\u0313\u0301\0\u1F56\u03C5\u0313\u0342\0\u1F59\u1F51\0\u1F5B\u1F53\0\u1F5D\u1F55\0"
+            + "\u1F5F\u1F57\0\u1F68\u1F60\0\u1F69\u1F61\0\u1F6A\u1F62\0\u1F6B\u1F63\0\u1F6C\u1F64\0"
+            + "\u1F6D\u1F65\0\u1F6E\u1F66\0\u1F6F\u1F67\0\u1F80\u1F00\u03B9\0\u1F81\u1F01\u03B9\0"
+            + "\u1F82\u1F02\u03B9\0\u1F83\u1F03\u03B9\0\u1F84\u1F04\u03B9\0\u1F85\u1F05\u03B9\0"
+            + "\u1F86\u1F06\u03B9\0\u1F87\u1F07\u03B9\0\u1F88\u1F00\u03B9\0\u1F89\u1F01\u03B9\0"
+            + "\u1F8A\u1F02\u03B9\0\u1F8B\u1F03\u03B9\0\u1F8C\u1F04\u03B9\0\u1F8D\u1F05\u03B9\0"
+            + "\u1F8E\u1F06\u03B9\0\u1F8F\u1F07\u03B9\0\u1F90\u1F20\u03B9\0\u1F91\u1F21\u03B9\0"
+            + "\u1F92\u1F22\u03B9\0\u1F93\u1F23\u03B9\0\u1F94\u1F24\u03B9\0\u1F95\u1F25\u03B9\0"
+            + "\u1F96\u1F26\u03B9\0\u1F97\u1F27\u03B9\0\u1F98\u1F20\u03B9\0\u1F99\u1F21\u03B9\0"
+            + "\u1F9A\u1F22\u03B9\0\u1F9B\u1F23\u03B9\0\u1F9C\u1F24\u03B9\0\u1F9D\u1F25\u03B9\0"
+            + "\u1F9E\u1F26\u03B9\0\u1F9F\u1F27\u03B9\0\u1FA0\u1F60\u03B9\0\u1FA1\u1F61\u03B9\0"
+            + "\u1FA2\u1F62\u03B9\0\u1FA3\u1F63\u03B9\0\u1FA4\u1F64\u03B9\0\u1FA5\u1F65\u03B9\0"
+            + "\u1FA6\u1F66\u03B9\0\u1FA7\u1F67\u03B9\0\u1FA8\u1F60\u03B9\0\u1FA9\u1F61\u03B9\0"
+            + "\u1FAA\u1F62\u03B9\0\u1FAB\u1F63\u03B9\0\u1FAC\u1F64\u03B9\0\u1FAD\u1F65\u03B9\0"
+            + "\u1FAE\u1F66\u03B9\0\u1FAF\u1F67\u03B9\0\u1FB2\u1F70\u03B9\0\u1FB3\u03B1\u03B9\0"
+            + "\u1FB4\u03AC\u03B9\0\u1FB6\u03B1\u0342\0\u1FB7\u03B1\u0342\u03B9\0\u1FB8\u1FB0\0\u1FB9\u1FB1\0"
+            + "\u1FBA\u1F70\0\u1FBB\u1F71\0\u1FBC\u03B1\u03B9\0\u1FBE\u03B9\0\u1FC2\u1F74\u03B9\0"
+            + "\u1FC3\u03B7\u03B9\0\u1FC4\u03AE\u03B9\0\u1FC6\u03B7\u0342\0\u1FC7\u03B7\u0342\u03B9\0"
+            + "\u1FC8\u1F72\0\u1FC9\u1F73\0\u1FCA\u1F74\0\u1FCB\u1F75\0\u1FCC\u03B7\u03B9\0"
+            + "\u1FD2\u03B9\u0308\u0300\0\u1FD3\u03B9\u0308\u0301\0\u1FD6\u03B9\u0342\0"
+            + "\u1FD7\u03B9\u0308\u0342\0\u1FD8\u1FD0\0\u1FD9\u1FD1\0\u1FDA\u1F76\0\u1FDB\u1F77\0"
+            + "\u1FE2\u03C5\u0308\u0300\0\u1FE3\u03C5\u0308\u0301\0\u1FE4\u03C1\u0313\0\u1FE6\u03C5\u0342\0"
+            + "\u1FE7\u03C5\u0308\u0342\0\u1FE8\u1FE0\0\u1FE9\u1FE1\0\u1FEA\u1F7A\0\u1FEB\u1F7B\0\u1FEC\u1FE5\0"
+            + "\u1FF2\u1F7C\u03B9\0\u1FF3\u03C9\u03B9\0\u1FF4\u03CE\u03B9\0\u1FF6\u03C9\u0342\0"
+            + "\u1FF7\u03C9\u0342\u03B9\0\u1FF8\u1F78\0\u1FF9\u1F79\0\u1FFA\u1F7C\0\u1FFB\u1F7D\0"
+            + "\u1FFC\u03C9\u03B9\0\u2126\u03C9\0\u212Ak\0\u212B\u00E5\0\u2132\u214E\0\u2160\u2170\0"
+            + "\u2161\u2171\0\u2162\u2172\0\u2163\u2173\0\u2164\u2174\0\u2165\u2175\0\u2166\u2176\0"
+            + "\u2167\u2177\0\u2168\u2178\0\u2169\u2179\0\u216A\u217A\0\u216B\u217B\0\u216C\u217C\0"
+            + "\u216D\u217D\0\u216E\u217E\0\u216F\u217F\0\u2183\u2184\0\u24B6\u24D0\0\u24B7\u24D1\0"
+            + "\u24B8\u24D2\0\u24B9\u24D3\0\u24BA\u24D4\0\u24BB\u24D5\0\u24BC\u24D6\0\u24BD\u24D7\0"
+            + "\u24BE\u24D8\0\u24BF\u24D9\0\u24C0\u24DA\0\u24C1\u24DB\0\u24C2\u24DC\0\u24C3\u24DD\0"
+            + "\u24C4\u24DE\0\u24C5\u24DF\0\u24C6\u24E0\0\u24C7\u24E1\0\u24C8\u24E2\0\u24C9\u24E3\0"
+            + "\u24CA\u24E4\0\u24CB\u24E5\0\u24CC\u24E6\0\u24CD\u24E7\0\u24CE\u24E8\0\u24CF\u24E9\0"
+            + "\u2C00\u2C30\0\u2C01\u2C31\0\u2C02\u2C32\0\u2C03\u2C33\0\u2C04\u2C34\0\u2C05\u2C35\0"
+            + "\u2C06\u2C36\0\u2C07\u2C37\0\u2C08\u2C38\0\u2C09\u2C39\0\u2C0A\u2C3A\0\u2C0B\u2C3B\0"
+            + "\u2C0C\u2C3C\0\u2C0D\u2C3D\0\u2C0E\u2C3E\0\u2C0F\u2C3F\0\u2C10\u2C40\0\u2C11\u2C41\0"
+            + "\u2C12\u2C42\0\u2C13\u2C43\0\u2C14\u2C44\0\u2C15\u2C45\0\u2C16\u2C46\0\u2C17\u2C47\0"
+            + "\u2C18\u2C48\0\u2C19\u2C49\0\u2C1A\u2C4A\0\u2C1B\u2C4B\0\u2C1C\u2C4C\0\u2C1D\u2C4D\0"
+            + "\u2C1E\u2C4E\0\u2C1F\u2C4F\0\u2C20\u2C50\0\u2C21\u2C51\0\u2C22\u2C52\0\u2C23\u2C53\0"
+            + "\u2C24\u2C54\0\u2C25\u2C55\0\u2C26\u2C56\0\u2C27\u2C57\0\u2C28\u2C58\0\u2C29\u2C59\0"
+            + "\u2C2A\u2C5A\0\u2C2B\u2C5B\0\u2C2C\u2C5C\0\u2C2D\u2C5D\0\u2C2E\u2C5E\0\u2C2F\u2C5F\0"
+            + "\u2C60\u2C61\0\u2C62\u026B\0\u2C63\u1D7D\0\u2C64\u027D\0\u2C67\u2C68\0\u2C69\u2C6A\0"
+            + "\u2C6B\u2C6C\0\u2C6D\u0251\0\u2C6E\u0271\0\u2C6F\u0250\0\u2C70\u0252\0\u2C72\u2C73\0"
+            + "\u2C75\u2C76\0\u2C7E\u023F\0\u2C7F\u0240\0\u2C80\u2C81\0\u2C82\u2C83\0\u2C84\u2C85\0"
+            + "\u2C86\u2C87\0\u2C88\u2C89\0\u2C8A\u2C8B\0\u2C8C\u2C8D\0\u2C8E\u2C8F\0\u2C90\u2C91\0"
+            + "\u2C92\u2C93\0\u2C94\u2C95\0\u2C96\u2C97\0\u2C98\u2C99\0\u2C9A\u2C9B\0\u2C9C\u2C9D\0"
+            + "\u2C9E\u2C9F\0\u2CA0\u2CA1\0\u2CA2\u2CA3\0\u2CA4\u2CA5\0\u2CA6\u2CA7\0\u2CA8\u2CA9\0"
+            + "\u2CAA\u2CAB\0\u2CAC\u2CAD\0\u2CAE\u2CAF\0\u2CB0\u2CB1\0\u2CB2\u2CB3\0\u2CB4\u2CB5\0"
+            + "\u2CB6\u2CB7\0\u2CB8\u2CB9\0\u2CBA\u2CBB\0\u2CBC\u2CBD\0\u2CBE\u2CBF\0\u2CC0\u2CC1\0"
+            + "\u2CC2\u2CC3\0\u2CC4\u2CC5\0\u2CC6\u2CC7\0\u2CC8\u2CC9\0\u2CCA\u2CCB\0\u2CCC\u2CCD\0"
+            + "\u2CCE\u2CCF\0\u2CD0\u2CD1\0\u2CD2\u2CD3\0\u2CD4\u2CD5\0\u2CD6\u2CD7\0\u2CD8\u2CD9\0"
+            + "\u2CDA\u2CDB\0\u2CDC\u2CDD\0\u2CDE\u2CDF\0\u2CE0\u2CE1\0\u2CE2\u2CE3\0\u2CEB\u2CEC\0"
+            + "\u2CED\u2CEE\0\u2CF2\u2CF3\0\uA640\uA641\0\uA642\uA643\0\uA644\uA645\0\uA646\uA647\0"
+            + "\uA648\uA649\0\uA64A\uA64B\0\uA64C\uA64D\0\uA64E\uA64F\0\uA650\uA651\0\uA652\uA653\0"
+            + "\uA654\uA655\0\uA656\uA657\0\uA658\uA659\0\uA65A\uA65B\0\uA65C\uA65D\0\uA65E\uA65F\0"
+            + "\uA660\uA661\0\uA662\uA663\0\uA664\uA665\0\uA666\uA667\0\uA668\uA669\0\uA66A\uA66B\0"
+            + "\uA66C\uA66D\0\uA680\uA681\0\uA682\uA683\0\uA684\uA685\0\uA686\uA687\0\uA688\uA689\0"
+            + "\uA68A\uA68B\0\uA68C\uA68D\0\uA68E\uA68F\0\uA690\uA691\0\uA692\uA693\0\uA694\uA695\0"
+            + "\uA696\uA697\0\uA698\uA699\0\uA69A\uA69B\0\uA722\uA723\0\uA724\uA725\0\uA726\uA727\0"
+            + "\uA728\uA729\0\uA72A\uA72B\0\uA72C\uA72D\0\uA72E\uA72F\0\uA732\uA733\0\uA734\uA735\0"
+            + "\uA736\uA737\0\uA738\uA739\0\uA73A\uA73B\0\uA73C\uA73D\0\uA73E\uA73F\0\uA740\uA741\0"
+            + "\uA742\uA743\0\uA744\uA745\0\uA746\uA747\0\uA748\uA749\0\uA74A\uA74B\0\uA74C\uA74D\0"
+            + "\uA74E\uA74F\0\uA750\uA751\0\uA752\uA753\0\uA754\uA755\0\uA756\uA757\0\uA758\uA759\0"
+            + "\uA75A\uA75B\0\uA75C\uA75D\0\uA75E\uA75F\0\uA760\uA761\0\uA762\uA763\0\uA764\uA765\0"
+            + "\uA766\uA767\0\uA768\uA769\0\uA76A\uA76B\0\uA76C\uA76D\0\uA76E\uA76F\0\uA779\uA77A\0"
+            + "\uA77B\uA77C\0\uA77D\u1D79\0\uA77E\uA77F\0\uA780\uA781\0\uA782\uA783\0\uA784\uA785\0"
+            + "\uA786\uA787\0\uA78B\uA78C\0\uA78D\u0265\0\uA790\uA791\0\uA792\uA793\0\uA796\uA797\0"
+            + "\uA798\uA799\0\uA79A\uA79B\0\uA79C\uA79D\0\uA79E\uA79F\0\uA7A0\uA7A1\0\uA7A2\uA7A3\0"
+            + "\uA7A4\uA7A5\0\uA7A6\uA7A7\0\uA7A8\uA7A9\0\uA7AA\u0266\0\uA7AB\u025C\0\uA7AC\u0261\0"
+            + "\uA7AD\u026C\0\uA7AE\u026A\0\uA7B0\u029E\0\uA7B1\u0287\0\uA7B2\u029D\0\uA7B3\uAB53\0"
+            + "\uA7B4\uA7B5\0\uA7B6\uA7B7\0\uA7B8\uA7B9\0\uA7BA\uA7BB\0\uA7BC\uA7BD\0\uA7BE\uA7BF\0"
+            + "\uA7C0\uA7C1\0\uA7C2\uA7C3\0\uA7C4\uA794\0\uA7C5\u0282\0\uA7C6\u1D8E\0\uA7C7\uA7C8\0"
+            + "\uA7C9\uA7CA\0\uA7D0\uA7D1\0\uA7D6\uA7D7\0\uA7D8\uA7D9\0\uA7F5\uA7F6\0\uAB70\u13A0\0"
+            + "\uAB71\u13A1\0\uAB72\u13A2\0\uAB73\u13A3\0\uAB74\u13A4\0\uAB75\u13A5\0\uAB76\u13A6\0"
+            + "\uAB77\u13A7\0\uAB78\u13A8\0\uAB79\u13A9\0\uAB7A\u13AA\0\uAB7B\u13AB\0\uAB7C\u13AC\0"
+            + "\uAB7D\u13AD\0\uAB7E\u13AE\0\uAB7F\u13AF\0\uAB80\u13B0\0\uAB81\u13B1\0\uAB82\u13B2\0"
+            + "\uAB83\u13B3\0\uAB84\u13B4\0\uAB85\u13B5\0\uAB86\u13B6\0\uAB87\u13B7\0\uAB88\u13B8\0"
+            + "\uAB89\u13B9\0\uAB8A\u13BA\0\uAB8B\u13BB\0\uAB8C\u13BC\0\uAB8D\u13BD\0\uAB8E\u13BE\0"
+            + "\uAB8F\u13BF\0\uAB90\u13C0\0\uAB91\u13C1\0\uAB92\u13C2\0\uAB93\u13C3\0\uAB94\u13C4\0"
+            + "\uAB95\u13C5\0\uAB96\u13C6\0\uAB97\u13C7\0\uAB98\u13C8\0\uAB99\u13C9\0\uAB9A\u13CA\0"
+            + "\uAB9B\u13CB\0\uAB9C\u13CC\0\uAB9D\u13CD\0\uAB9E\u13CE\0\uAB9F\u13CF\0\uABA0\u13D0\0"
+            + "\uABA1\u13D1\0\uABA2\u13D2\0\uABA3\u13D3\0\uABA4\u13D4\0\uABA5\u13D5\0\uABA6\u13D6\0"
+            + "\uABA7\u13D7\0\uABA8\u13D8\0\uABA9\u13D9\0\uABAA\u13DA\0\uABAB\u13DB\0\uABAC\u13DC\0"
+            + "\uABAD\u13DD\0\uABAE\u13DE\0\uABAF\u13DF\0\uABB0\u13E0\0\uABB1\u13E1\0\uABB2\u13E2\0"
+            + "\uABB3\u13E3\0\uABB4\u13E4\0\uABB5\u13E5\0\uABB6\u13E6\0\uABB7\u13E7\0\uABB8\u13E8\0"
+            + "\uABB9\u13E9\0\uABBA\u13EA\0\uABBB\u13EB\0\uABBC\u13EC\0\uABBD\u13ED\0\uABBE\u13EE\0"
+            + "\uABBF\u13EF\0\uFB00ff\0\uFB01fi\0\uFB02fl\0"
+            + "\uFB03ffi\0\uFB04ffl\0\uFB05st\0\uFB06st\0"
+            + "\uFB13\u0574\u0576\0\uFB14\u0574\u0565\0\uFB15\u0574\u056B\0\uFB16\u057E\u0576\0"
+            + "\uFB17\u0574\u056D\0\uFF21\uFF41\0\uFF22\uFF42\0\uFF23\uFF43\0\uFF24\uFF44\0\uFF25\uFF45\0"
+            + "\uFF26\uFF46\0\uFF27\uFF47\0\uFF28\uFF48\0\uFF29\uFF49\0\uFF2A\uFF4A\0\uFF2B\uFF4B\0"
+            + "\uFF2C\uFF4C\0\uFF2D\uFF4D\0\uFF2E\uFF4E\0\uFF2F\uFF4F\0\uFF30\uFF50\0\uFF31\uFF51\0"
+            + "\uFF32\uFF52\0\uFF33\uFF53\0\uFF34\uFF54\0\uFF35\uFF55\0\uFF36\uFF56\0\uFF37\uFF57\0"
+            + "\uFF38\uFF58\0\uFF39\uFF59\0\uFF3A\uFF5A\0\uD801\uDC00\uD801\uDC28\0\uD801\uDC01\uD801\uDC29\0"
+            + "\uD801\uDC02\uD801\uDC2A\0\uD801\uDC03\uD801\uDC2B\0\uD801\uDC04\uD801\uDC2C\0"
+            + "\uD801\uDC05\uD801\uDC2D\0\uD801\uDC06\uD801\uDC2E\0\uD801\uDC07\uD801\uDC2F\0"
+            + "\uD801\uDC08\uD801\uDC30\0\uD801\uDC09\uD801\uDC31\0\uD801\uDC0A\uD801\uDC32\0"
+            + "\uD801\uDC0B\uD801\uDC33\0\uD801\uDC0C\uD801\uDC34\0\uD801\uDC0D\uD801\uDC35\0"
+            + "\uD801\uDC0E\uD801\uDC36\0\uD801\uDC0F\uD801\uDC37\0\uD801\uDC10\uD801\uDC38\0"
+            + "\uD801\uDC11\uD801\uDC39\0\uD801\uDC12\uD801\uDC3A\0\uD801\uDC13\uD801\uDC3B\0"
+            + "\uD801\uDC14\uD801\uDC3C\0\uD801\uDC15\uD801\uDC3D\0\uD801\uDC16\uD801\uDC3E\0"
+            + "\uD801\uDC17\uD801\uDC3F\0\uD801\uDC18\uD801\uDC40\0\uD801\uDC19\uD801\uDC41\0"
+            + "\uD801\uDC1A\uD801\uDC42\0\uD801\uDC1B\uD801\uDC43\0\uD801\uDC1C\uD801\uDC44\0"
+            + "\uD801\uDC1D\uD801\uDC45\0\uD801\uDC1E\uD801\uDC46\0\uD801\uDC1F\uD801\uDC47\0"
+            + "\uD801\uDC20\uD801\uDC48\0\uD801\uDC21\uD801\uDC49\0\uD801\uDC22\uD801\uDC4A\0"
+            + "\uD801\uDC23\uD801\uDC4B\0\uD801\uDC24\uD801\uDC4C\0\uD801\uDC25\uD801\uDC4D\0"
+            + "\uD801\uDC26\uD801\uDC4E\0\uD801\uDC27\uD801\uDC4F\0\uD801\uDCB0\uD801\uDCD8\0"
+            + "\uD801\uDCB1\uD801\uDCD9\0\uD801\uDCB2\uD801\uDCDA\0\uD801\uDCB3\uD801\uDCDB\0"
+            + "\uD801\uDCB4\uD801\uDCDC\0\uD801\uDCB5\uD801\uDCDD\0\uD801\uDCB6\uD801\uDCDE\0"
+            + "\uD801\uDCB7\uD801\uDCDF\0\uD801\uDCB8\uD801\uDCE0\0\uD801\uDCB9\uD801\uDCE1\0"
+            + "\uD801\uDCBA\uD801\uDCE2\0\uD801\uDCBB\uD801\uDCE3\0\uD801\uDCBC\uD801\uDCE4\0"
+            + "\uD801\uDCBD\uD801\uDCE5\0\uD801\uDCBE\uD801\uDCE6\0\uD801\uDCBF\uD801\uDCE7\0"
+            + "\uD801\uDCC0\uD801\uDCE8\0\uD801\uDCC1\uD801\uDCE9\0\uD801\uDCC2\uD801\uDCEA\0"
+            + "\uD801\uDCC3\uD801\uDCEB\0\uD801\uDCC4\uD801\uDCEC\0\uD801\uDCC5\uD801\uDCED\0"
+            + "\uD801\uDCC6\uD801\uDCEE\0\uD801\uDCC7\uD801\uDCEF\0\uD801\uDCC8\uD801\uDCF0\0"
+            + "\uD801\uDCC9\uD801\uDCF1\0\uD801\uDCCA\uD801\uDCF2\0\uD801\uDCCB\uD801\uDCF3\0"
+            + "\uD801\uDCCC\uD801\uDCF4\0\uD801\uDCCD\uD801\uDCF5\0\uD801\uDCCE\uD801\uDCF6\0"
+            + "\uD801\uDCCF\uD801\uDCF7\0\uD801\uDCD0\uD801\uDCF8\0\uD801\uDCD1\uD801\uDCF9\0"
+            + "\uD801\uDCD2\uD801\uDCFA\0\uD801\uDCD3\uD801\uDCFB\0\uD801\uDD70\uD801\uDD97\0"
+            + "\uD801\uDD71\uD801\uDD98\0\uD801\uDD72\uD801\uDD99\0\uD801\uDD73\uD801\uDD9A\0"
+            + "\uD801\uDD74\uD801\uDD9B\0\uD801\uDD75\uD801\uDD9C\0\uD801\uDD76\uD801\uDD9D\0"
+            + "\uD801\uDD77\uD801\uDD9E\0\uD801\uDD78\uD801\uDD9F\0\uD801\uDD79\uD801\uDDA0\0"
+            + "\uD801\uDD7A\uD801\uDDA1\0\uD801\uDD7C\uD801\uDDA3\0\uD801\uDD7D\uD801\uDDA4\0"
+            + "\uD801\uDD7E\uD801\uDDA5\0\uD801\uDD7F\uD801\uDDA6\0\uD801\uDD80\uD801\uDDA7\0"
+            + "\uD801\uDD81\uD801\uDDA8\0\uD801\uDD82\uD801\uDDA9\0\uD801\uDD83\uD801\uDDAA\0"
+            + "\uD801\uDD84\uD801\uDDAB\0\uD801\uDD85\uD801\uDDAC\0\uD801\uDD86\uD801\uDDAD\0"
+            + "\uD801\uDD87\uD801\uDDAE\0\uD801\uDD88\uD801\uDDAF\0\uD801\uDD89\uD801\uDDB0\0"
+            + "\uD801\uDD8A\uD801\uDDB1\0\uD801\uDD8C\uD801\uDDB3\0\uD801\uDD8D\uD801\uDDB4\0"
+            + "\uD801\uDD8E\uD801\uDDB5\0\uD801\uDD8F\uD801\uDDB6\0\uD801\uDD90\uD801\uDDB7\0"
+            + "\uD801\uDD91\uD801\uDDB8\0\uD801\uDD92\uD801\uDDB9\0\uD801\uDD94\uD801\uDDBB\0"
+            + "\uD801\uDD95\uD801\uDDBC\0\uD803\uDC80\uD803\uDCC0\0\uD803\uDC81\uD803\uDCC1\0"
+            + "\uD803\uDC82\uD803\uDCC2\0\uD803\uDC83\uD803\uDCC3\0\uD803\uDC84\uD803\uDCC4\0"
+            + "\uD803\uDC85\uD803\uDCC5\0\uD803\uDC86\uD803\uDCC6\0\uD803\uDC87\uD803\uDCC7\0"
+            + "\uD803\uDC88\uD803\uDCC8\0\uD803\uDC89\uD803\uDCC9\0\uD803\uDC8A\uD803\uDCCA\0"
+            + "\uD803\uDC8B\uD803\uDCCB\0\uD803\uDC8C\uD803\uDCCC\0\uD803\uDC8D\uD803\uDCCD\0"
+            + "\uD803\uDC8E\uD803\uDCCE\0\uD803\uDC8F\uD803\uDCCF\0\uD803\uDC90\uD803\uDCD0\0"
+            + "\uD803\uDC91\uD803\uDCD1\0\uD803\uDC92\uD803\uDCD2\0\uD803\uDC93\uD803\uDCD3\0"
+            + "\uD803\uDC94\uD803\uDCD4\0\uD803\uDC95\uD803\uDCD5\0\uD803\uDC96\uD803\uDCD6\0"
+            + "\uD803\uDC97\uD803\uDCD7\0\uD803\uDC98\uD803\uDCD8\0\uD803\uDC99\uD803\uDCD9\0"
+            + "\uD803\uDC9A\uD803\uDCDA\0\uD803\uDC9B\uD803\uDCDB\0\uD803\uDC9C\uD803\uDCDC\0"
+            + "\uD803\uDC9D\uD803\uDCDD\0\uD803\uDC9E\uD803\uDCDE\0\uD803\uDC9F\uD803\uDCDF\0"
+            + "\uD803\uDCA0\uD803\uDCE0\0\uD803\uDCA1\uD803\uDCE1\0\uD803\uDCA2\uD803\uDCE2\0"
+            + "\uD803\uDCA3\uD803\uDCE3\0\uD803\uDCA4\uD803\uDCE4\0\uD803\uDCA5\uD803\uDCE5\0"
+            + "\uD803\uDCA6\uD803\uDCE6\0\uD803\uDCA7\uD803\uDCE7\0\uD803\uDCA8\uD803\uDCE8\0"
+            + "\uD803\uDCA9\uD803\uDCE9\0\uD803\uDCAA\uD803\uDCEA\0\uD803\uDCAB\uD803\uDCEB\0"
+            + "\uD803\uDCAC\uD803\uDCEC\0\uD803\uDCAD\uD803\uDCED\0\uD803\uDCAE\uD803\uDCEE\0"
+            + "\uD803\uDCAF\uD803\uDCEF\0\uD803\uDCB0\uD803\uDCF0\0\uD803\uDCB1\uD803\uDCF1\0"
+            + "\uD803\uDCB2\uD803\uDCF2\0\uD806\uDCA0\uD806\uDCC0\0\uD806\uDCA1\uD806\uDCC1\0"
+            + "\uD806\uDCA2\uD806\uDCC2\0\uD806\uDCA3\uD806\uDCC3\0\uD806\uDCA4\uD806\uDCC4\0"
+            + "\uD806\uDCA5\uD806\uDCC5\0\uD806\uDCA6\uD806\uDCC6\0\uD806\uDCA7\uD806\uDCC7\0"
+            + "\uD806\uDCA8\uD806\uDCC8\0\uD806\uDCA9\uD806\uDCC9\0\uD806\uDCAA\uD806\uDCCA\0"
+            + "\uD806\uDCAB\uD806\uDCCB\0\uD806\uDCAC\uD806\uDCCC\0\uD806\uDCAD\uD806\uDCCD\0"
+            + "\uD806\uDCAE\uD806\uDCCE\0\uD806\uDCAF\uD806\uDCCF\0\uD806\uDCB0\uD806\uDCD0\0"
+            + "\uD806\uDCB1\uD806\uDCD1\0\uD806\uDCB2\uD806\uDCD2\0\uD806\uDCB3\uD806\uDCD3\0"
+            + "\uD806\uDCB4\uD806\uDCD4\0\uD806\uDCB5\uD806\uDCD5\0\uD806\uDCB6\uD806\uDCD6\0"
+            + "\uD806\uDCB7\uD806\uDCD7\0\uD806\uDCB8\uD806\uDCD8\0\uD806\uDCB9\uD806\uDCD9\0"
+            + "\uD806\uDCBA\uD806\uDCDA\0\uD806\uDCBB\uD806\uDCDB\0\uD806\uDCBC\uD806\uDCDC\0"
+            + "\uD806\uDCBD\uD806\uDCDD\0\uD806\uDCBE\uD806\uDCDE\0\uD806\uDCBF\uD806\uDCDF\0"
+            + "\uD81B\uDE40\uD81B\uDE60\0\uD81B\uDE41\uD81B\uDE61\0\uD81B\uDE42\uD81B\uDE62\0"
+            + "\uD81B\uDE43\uD81B\uDE63\0\uD81B\uDE44\uD81B\uDE64\0\uD81B\uDE45\uD81B\uDE65\0"
+            + "\uD81B\uDE46\uD81B\uDE66\0\uD81B\uDE47\uD81B\uDE67\0\uD81B\uDE48\uD81B\uDE68\0"
+            + "\uD81B\uDE49\uD81B\uDE69\0\uD81B\uDE4A\uD81B\uDE6A\0\uD81B\uDE4B\uD81B\uDE6B\0"
+            + "\uD81B\uDE4C\uD81B\uDE6C\0\uD81B\uDE4D\uD81B\uDE6D\0\uD81B\uDE4E\uD81B\uDE6E\0"
+            + "\uD81B\uDE4F\uD81B\uDE6F\0\uD81B\uDE50\uD81B\uDE70\0\uD81B\uDE51\uD81B\uDE71\0"
+            + "\uD81B\uDE52\uD81B\uDE72\0\uD81B\uDE53\uD81B\uDE73\0\uD81B\uDE54\uD81B\uDE74\0"
+            + "\uD81B\uDE55\uD81B\uDE75\0\uD81B\uDE56\uD81B\uDE76\0\uD81B\uDE57\uD81B\uDE77\0"
+            + "\uD81B\uDE58\uD81B\uDE78\0\uD81B\uDE59\uD81B\uDE79\0\uD81B\uDE5A\uD81B\uDE7A\0"
+            + "\uD81B\uDE5B\uD81B\uDE7B\0\uD81B\uDE5C\uD81B\uDE7C\0\uD81B\uDE5D\uD81B\uDE7D\0"
+            + "\uD81B\uDE5E\uD81B\uDE7E\0\uD81B\uDE5F\uD81B\uDE7F\0\uD83A\uDD00\uD83A\uDD22\0"
+            + "\uD83A\uDD01\uD83A\uDD23\0\uD83A\uDD02\uD83A\uDD24\0\uD83A\uDD03\uD83A\uDD25\0"
+            + "\uD83A\uDD04\uD83A\uDD26\0\uD83A\uDD05\uD83A\uDD27\0\uD83A\uDD06\uD83A\uDD28\0"
+            + "\uD83A\uDD07\uD83A\uDD29\0\uD83A\uDD08\uD83A\uDD2A\0\uD83A\uDD09\uD83A\uDD2B\0"
+            + "\uD83A\uDD0A\uD83A\uDD2C\0\uD83A\uDD0B\uD83A\uDD2D\0\uD83A\uDD0C\uD83A\uDD2E\0"
+            + "\uD83A\uDD0D\uD83A\uDD2F\0\uD83A\uDD0E\uD83A\uDD30\0\uD83A\uDD0F\uD83A\uDD31\0"
+            + "\uD83A\uDD10\uD83A\uDD32\0\uD83A\uDD11\uD83A\uDD33\0\uD83A\uDD12\uD83A\uDD34\0"
+            + "\uD83A\uDD13\uD83A\uDD35\0\uD83A\uDD14\uD83A\uDD36\0\uD83A\uDD15\uD83A\uDD37\0"
+            + "\uD83A\uDD16\uD83A\uDD38\0\uD83A\uDD17\uD83A\uDD39\0\uD83A\uDD18\uD83A\uDD3A\0"
+            + "\uD83A\uDD19\uD83A\uDD3B\0\uD83A\uDD1A\uD83A\uDD3C\0\uD83A\uDD1B\uD83A\uDD3D\0"
+            + "\uD83A\uDD1C\uD83A\uDD3E\0\uD83A\uDD1D\uD83A\uDD3F\0\uD83A\uDD1E\uD83A\uDD40\0"
+            + "\uD83A\uDD1F\uD83A\uDD41\0\uD83A\uDD20\uD83A\uDD42\0\uD83A\uDD21\uD83A\uDD43\0";
+
+    static final int COUNT = 1504;
+
+    private CaseFoldData() {
+    }
+}
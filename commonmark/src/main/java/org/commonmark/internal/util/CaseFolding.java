@@ -0,0 +1,48 @@
+package org.commonmark.internal.util;
+
+import java.util.Arrays;
+
+/**
+ * Full Unicode case folding (e.g. {@code ß} folds to {@code ss}), independent of the locale.
+ */
+public class CaseFolding {
+
+    private static final String FOLDS = CaseFoldData.FOLDS;
+
+    // The code points that change when folded, and the start and end of what they fold to in FOLDS
+    private static final int[] CODE_POINTS = new int[CaseFoldData.COUNT];
+    private static final int[] FOLD_STARTS = new int[CaseFoldData.COUNT];
+    private static final int[] FOLD_ENDS = new int[CaseFoldData.COUNT];
+
+    static {
+        int i = 0;
+        for (int entry = 0; entry < CaseFoldData.COUNT; entry++) {
+            int codePoint = FOLDS.codePointAt(i);
+            CODE_POINTS[entry] = codePoint;
+            i += Character.charCount(codePoint);
+            FOLD_STARTS[entry] = i;
+            i = FOLDS.indexOf('\0', i);
+            FOLD_ENDS[entry] = i;
+            i++;
+        }
+    }
+
+    /**
+     * Append the case folding of {@code codePoint} (one to three code points) to {@code sb}.
+     */
+    public static void appendFolded(int codePoint, StringBuilder sb) {
+        if (codePoint < 0x80) {
+            if (codePoint >= 'A' && codePoint <= 'Z') {
+                codePoint += 'a' - 'A';
+            }
+            sb.append((char) codePoint);
+            return;
+        }
+        int index = Arrays.binarySearch(CODE_POINTS, codePoint);
+        if (index < 0) {
+            sb.appendCodePoint(codePoint);
+        } else {
+            sb.append(FOLDS, FOLD_STARTS[index], FOLD_ENDS[index]);
+        }
+    }
+}
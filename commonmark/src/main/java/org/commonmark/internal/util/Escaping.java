@@ -1,144 +1,251 @@
 package org.commonmark.internal.util;
 
-import java.nio.charset.Charset;
-import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.IOException;
 
 public class Escaping {
 
     public static final String ESCAPABLE = "[!\"#$%&\'()*+,./:;<=>?@\\[\\\\\\]^_`{|}~-]";
 
-    public static final String ENTITY = "&(?:#x[a-f0-9]{1,6}|#[0-9]{1,7}|[a-z][a-z0-9]{1,31});";
+    // From RFC 3986 (see "reserved", "unreserved"), these are not percent-encoded
+    private static final AsciiMatcher URI_UNESCAPED = AsciiMatcher.builder()
+            .c(':').c('/').c('?').c('#').c('@').c('!').c('$').c('&').c('\'').c('(').c(')').c('*').c('+').c(',').c(';')
+            .c('=').range('a', 'z').range('A', 'Z').range('0', '9').c('-').c('.').c('_').c('~')
+            .build();
 
-    private static final Pattern BACKSLASH_OR_AMP = Pattern.compile("[\\\\&]");
-
-    private static final Pattern ENTITY_OR_ESCAPED_CHAR =
-            Pattern.compile("\\\\" + ESCAPABLE + '|' + ENTITY, Pattern.CASE_INSENSITIVE);
-
-    // From RFC 3986 (see "reserved", "unreserved") except don't escape '[' or ']' to be compatible with JS encodeURI
-    private static final Pattern ESCAPE_IN_URI =
-            Pattern.compile("(%[a-fA-F0-9]{0,2}|[^:/?#@!$&'()*+,;=a-zA-Z0-9\\-._~])");
+    private static final AsciiMatcher HEX_DIGIT = AsciiMatcher.builder()
+            .range('0', '9').range('a', 'f').range('A', 'F').build();
+    private static final AsciiMatcher DIGIT = AsciiMatcher.builder().range('0', '9').build();
+    private static final AsciiMatcher LETTER = AsciiMatcher.builder().range('a', 'z').range('A', 'Z').build();
+    private static final AsciiMatcher LETTER_OR_DIGIT = LETTER.newBuilder().range('0', '9').build();
 
     private static final char[] HEX_DIGITS =
             new char[]{'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
 
-    private static final Pattern WHITESPACE = Pattern.compile("[ \t\r\n]+");
+    public static String escapeHtml(String input) {
+        // Avoid building a new string in the majority of cases (nothing to escape)
+        StringBuilder sb = null;
 
-    private static final Replacer UNESCAPE_REPLACER = new Replacer() {
-        @Override
-        public void replace(String input, StringBuilder sb) {
-            if (input.charAt(0) == '\\') {
-                sb.append(input, 1, input.length());
-            } else {
-                sb.append(Html5Entities.entityToString(input));
+        int lastEnd = 0;
+        for (int i = 0; i < input.length(); i++) {
+            String replacement = htmlReplacement(input.charAt(i));
+            if (replacement != null) {
+                if (sb == null) {
+                    sb = new StringBuilder(input.length() + 16);
+                }
+                sb.append(input, lastEnd, i);
+                sb.append(replacement);
+                lastEnd = i + 1;
             }
         }
-    };
-
-    private static final Replacer URI_REPLACER = new Replacer() {
-        @Override
-        public void replace(String input, StringBuilder sb) {
-            if (input.startsWith("%")) {
-                if (input.length() == 3) {
-                    // Already percent-encoded, preserve
-                    sb.append(input);
-                } else {
-                    // %25 is the percent-encoding for %
-                    sb.append("%25");
-                    sb.append(input, 1, input.length());
-                }
-            } else {
-                byte[] bytes = input.getBytes(Charset.forName("UTF-8"));
-                for (byte b : bytes) {
-                    sb.append('%');
-                    sb.append(HEX_DIGITS[(b >> 4) & 0xF]);
-                    sb.append(HEX_DIGITS[b & 0xF]);
+
+        if (sb == null) {
+            return input;
+        }
+        sb.append(input, lastEnd, input.length());
+        return sb.toString();
+    }
+
+    /**
+     * Like {@link #escapeHtml(String)}, but appends the result to {@code out} directly: Runs of characters that don't
+     * need escaping are appended as slices of the input, so no intermediate strings are created.
+     */
+    public static void escapeHtml(CharSequence input, Appendable out) throws IOException {
+        int lastEnd = 0;
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            String replacement = htmlReplacement(input.charAt(i));
+            if (replacement != null) {
+                if (i != lastEnd) {
+                    SubSequence.appendTo(out, input, lastEnd, i);
                 }
+                out.append(replacement);
+                lastEnd = i + 1;
             }
         }
-    };
+        if (lastEnd != length) {
+            SubSequence.appendTo(out, input, lastEnd, length);
+        }
+    }
 
-    public static String escapeHtml(String input) {
-        // Avoid building a new string in the majority of cases (nothing to escape)
-        StringBuilder sb = null;
+    private static String htmlReplacement(char c) {
+        switch (c) {
+            case '&':
+                return "&amp;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '\"':
+                return "&quot;";
+            default:
+                return null;
+        }
+    }
 
-        loop:
-        for (int i = 0; i < input.length(); i++) {
-            char c = input.charAt(i);
-            String replacement;
-            switch (c) {
-                case '&':
-                    replacement = "&amp;";
-                    break;
-                case '<':
-                    replacement = "&lt;";
-                    break;
-                case '>':
-                    replacement = "&gt;";
-                    break;
-                case '\"':
-                    replacement = "&quot;";
-                    break;
-                default:
-                    if (sb != null) {
-                        sb.append(c);
+    /**
+     * Replace entities and backslash escapes with literal characters. Returns the input itself if there's nothing to
+     * replace.
+     */
+    public static String unescapeString(String s) {
+        StringBuilder sb = null;
+        int lastEnd = 0;
+        int length = s.length();
+        int i = 0;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < length && Parsing.isEscapable(s.charAt(i + 1))) {
+                if (sb == null) {
+                    sb = new StringBuilder(length);
+                }
+                sb.append(s, lastEnd, i);
+                sb.append(s.charAt(i + 1));
+                i += 2;
+                lastEnd = i;
+            } else if (c == '&') {
+                int end = entityEnd(s, i);
+                if (end == -1) {
+                    i++;
+                    continue;
+                }
+                String replacement = Html5Entities.entityToString(s, i, end);
+                // Unknown named references stay as they are
+                if (replacement != null) {
+                    if (sb == null) {
+                        sb = new StringBuilder(length);
                     }
-                    continue loop;
-            }
-            if (sb == null) {
-                sb = new StringBuilder();
-                sb.append(input, 0, i);
+                    sb.append(s, lastEnd, i);
+                    sb.append(replacement);
+                    lastEnd = end;
+                }
+                i = end;
+            } else {
+                i++;
             }
-            sb.append(replacement);
         }
 
-        return sb != null ? sb.toString() : input;
+        if (sb == null) {
+            return s;
+        }
+        sb.append(s, lastEnd, length);
+        return sb.toString();
     }
 
     /**
-     * Replace entities and backslash escapes with literal characters.
+     * Match an entity (case-insensitive) like {@code &#x1F;}, {@code &#123;} or {@code &name;} at {@code start}.
+     *
+     * @return the index after the {@code ;} of the entity, or -1 if there's no entity at {@code start}
      */
-    public static String unescapeString(String s) {
-        if (BACKSLASH_OR_AMP.matcher(s).find()) {
-            return replaceAll(ENTITY_OR_ESCAPED_CHAR, s, UNESCAPE_REPLACER);
+    private static int entityEnd(CharSequence s, int start) {
+        int length = s.length();
+        int i = start + 1;
+        if (i == length) {
+            return -1;
+        }
+        int min;
+        int max;
+        AsciiMatcher matcher;
+        if (s.charAt(i) == '#') {
+            i++;
+            if (i < length && (s.charAt(i) == 'x' || s.charAt(i) == 'X')) {
+                i++;
+                matcher = HEX_DIGIT;
+                min = 1;
+                max = 6;
+            } else {
+                matcher = DIGIT;
+                min = 1;
+                max = 7;
+            }
         } else {
-            return s;
+            if (!LETTER.matches(s.charAt(i))) {
+                return -1;
+            }
+            i++;
+            matcher = LETTER_OR_DIGIT;
+            min = 1;
+            max = 31;
+        }
+        int contentStart = i;
+        while (i < length && matcher.matches(s.charAt(i))) {
+            i++;
         }
+        int count = i - contentStart;
+        if (count < min || count > max || i == length || s.charAt(i) != ';') {
+            return -1;
+        }
+        return i + 1;
     }
 
+    /**
+     * Percent-encode the characters of a URL that need it (using UTF-8), keeping existing percent-encoded sequences.
+     * Returns the input itself if there's nothing to encode.
+     */
     public static String percentEncodeUrl(String s) {
-        return replaceAll(ESCAPE_IN_URI, s, URI_REPLACER);
-    }
-
-    public static String normalizeLabelContent(String input) {
-        String trimmed = input.trim();
-        String lowercase = trimmed.toLowerCase(Locale.ROOT);
-        return WHITESPACE.matcher(lowercase).replaceAll(" ");
-    }
+        StringBuilder sb = null;
+        int lastEnd = 0;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (URI_UNESCAPED.matches(c)) {
+                continue;
+            }
+            if (c == '%' && i + 2 < length && HEX_DIGIT.matches(s.charAt(i + 1)) && HEX_DIGIT.matches(s.charAt(i + 2))) {
+                // Already percent-encoded, preserve
+                i += 2;
+                continue;
+            }
 
-    private static String replaceAll(Pattern p, String s, Replacer replacer) {
-        Matcher matcher = p.matcher(s);
+            if (sb == null) {
+                sb = new StringBuilder(length + 16);
+            }
+            sb.append(s, lastEnd, i);
+            if (c == '%') {
+                // %25 is the percent-encoding for %
+                sb.append("%25");
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                appendUtf8(sb, Character.toCodePoint(c, s.charAt(i + 1)));
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // Can't be encoded, same replacement as String#getBytes
+                appendPercentEncoded(sb, '?');
+            } else {
+                appendUtf8(sb, c);
+            }
+            lastEnd = i + 1;
+        }
 
-        if (!matcher.find()) {
+        if (sb == null) {
             return s;
         }
+        sb.append(s, lastEnd, length);
+        return sb.toString();
+    }
 
-        StringBuilder sb = new StringBuilder(s.length() + 16);
-        int lastEnd = 0;
-        do {
-            sb.append(s, lastEnd, matcher.start());
-            replacer.replace(matcher.group(), sb);
-            lastEnd = matcher.end();
-        } while (matcher.find());
-
-        if (lastEnd != s.length()) {
-            sb.append(s, lastEnd, s.length());
+    private static void appendUtf8(StringBuilder sb, int codePoint) {
+        if (codePoint < 0x80) {
+            appendPercentEncoded(sb, codePoint);
+        } else if (codePoint < 0x800) {
+            appendPercentEncoded(sb, 0xC0 | (codePoint >> 6));
+            appendPercentEncoded(sb, 0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            appendPercentEncoded(sb, 0xE0 | (codePoint >> 12));
+            appendPercentEncoded(sb, 0x80 | ((codePoint >> 6) & 0x3F));
+            appendPercentEncoded(sb, 0x80 | (codePoint & 0x3F));
+        } else {
+            appendPercentEncoded(sb, 0xF0 | (codePoint >> 18));
+            appendPercentEncoded(sb, 0x80 | ((codePoint >> 12) & 0x3F));
+            appendPercentEncoded(sb, 0x80 | ((codePoint >> 6) & 0x3F));
+            appendPercentEncoded(sb, 0x80 | (codePoint & 0x3F));
         }
-        return sb.toString();
     }
 
-    private interface Replacer {
-        void replace(String input, StringBuilder sb);
+    private static void appendPercentEncoded(StringBuilder sb, int b) {
+        sb.append('%');
+        sb.append(HEX_DIGITS[(b >> 4) & 0xF]);
+        sb.append(HEX_DIGITS[b & 0xF]);
+    }
+
+    public static String normalizeLabelContent(String input) {
+        return NormalizedLabel.of(input).toString();
     }
 }
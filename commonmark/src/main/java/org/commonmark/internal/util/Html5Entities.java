@@ -1,71 +1,129 @@
 package org.commonmark.internal.util;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
-
 public class Html5Entities {
 
-    private static final Map<String, String> NAMED_CHARACTER_REFERENCES = readEntities();
-    private static final String ENTITY_PATH = "/org/commonmark/internal/util/entities.properties";
+    private static final String NAMES = Html5EntityData.NAMES;
+    private static final String VALUES = Html5EntityData.VALUES;
+
+    // Start index of each name in NAMES and of each value in VALUES. The entry ends before the next separator.
+    private static final int[] NAME_STARTS = starts(NAMES, ';');
+    private static final int[] VALUE_STARTS = starts(VALUES, '\0');
+    // Values are only turned into strings when they're used
+    private static final String[] VALUE_STRINGS = new String[Html5EntityData.COUNT];
+
+    private static final String REPLACEMENT_CHARACTER = "\uFFFD";
 
     public static String entityToString(String input) {
-        if (!input.startsWith("&") || !input.endsWith(";")) {
-            return input;
+        String s = entityToString(input, 0, input.length());
+        return s != null ? s : input;
+    }
+
+    /**
+     * Look up the entity or numeric character reference in {@code s} from {@code start} (the {@code &}) to
+     * {@code end} (after the {@code ;}), without copying it.
+     *
+     * @return the characters it stands for, or null if it's not a known entity
+     */
+    public static String entityToString(CharSequence s, int start, int end) {
+        if (end - start < 3 || s.charAt(start) != '&' || s.charAt(end - 1) != ';') {
+            return null;
         }
 
-        String value = input.substring(1, input.length() - 1);
-        if (value.startsWith("#")) {
-            value = value.substring(1);
+        int i = start + 1;
+        int valueEnd = end - 1;
+        if (s.charAt(i) == '#') {
+            i++;
             int base = 10;
-            if (value.startsWith("x") || value.startsWith("X")) {
-                value = value.substring(1);
+            if (i < valueEnd && (s.charAt(i) == 'x' || s.charAt(i) == 'X')) {
+                i++;
                 base = 16;
             }
+            return numericToString(s, i, valueEnd, base);
+        }
+
+        int index = findName(s, i, valueEnd);
+        if (index < 0) {
+            return null;
+        }
+        String value = VALUE_STRINGS[index];
+        if (value == null) {
+            // Racing threads would store equal strings, so no need to synchronize
+            int valueStart = VALUE_STARTS[index];
+            value = VALUES.substring(valueStart, VALUES.indexOf('\0', valueStart));
+            VALUE_STRINGS[index] = value;
+        }
+        return value;
+    }
 
-            try {
-                int codePoint = Integer.parseInt(value, base);
-                if (codePoint == 0) {
-                    return "\uFFFD";
-                }
-                return new String(Character.toChars(codePoint));
-            } catch (IllegalArgumentException e) {
-                return "\uFFFD";
+    private static String numericToString(CharSequence s, int start, int end, int base) {
+        if (start == end) {
+            return REPLACEMENT_CHARACTER;
+        }
+        int codePoint = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(s.charAt(i), base);
+            if (digit < 0) {
+                return REPLACEMENT_CHARACTER;
+            }
+            codePoint = codePoint * base + digit;
+            if (codePoint > Character.MAX_CODE_POINT) {
+                return REPLACEMENT_CHARACTER;
             }
-        } else {
-            String s = NAMED_CHARACTER_REFERENCES.get(value);
-            if (s != null) {
-                return s;
+        }
+        if (codePoint == 0) {
+            return REPLACEMENT_CHARACTER;
+        }
+        return new String(Character.toChars(codePoint));
+    }
+
+    /**
+     * Binary search for the name in {@code s} from {@code start} to {@code end}.
+     *
+     * @return the index of the name, or a negative number if it's not in the table
+     */
+    private static int findName(CharSequence s, int start, int end) {
+        int low = 0;
+        int high = NAME_STARTS.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareName(mid, s, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
             } else {
-                return input;
+                return mid;
             }
         }
+        return -(low + 1);
     }
 
-    private static Map<String, String> readEntities() {
-        Map<String, String> entities = new HashMap<>();
-        InputStream stream = Html5Entities.class.getResourceAsStream(ENTITY_PATH);
-        Charset charset = StandardCharsets.UTF_8;
-        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(stream, charset))) {
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                if (line.length() == 0) {
-                    continue;
-                }
-                int equal = line.indexOf("=");
-                String key = line.substring(0, equal);
-                String value = line.substring(equal + 1);
-                entities.put(key, value);
+    private static int compareName(int index, CharSequence s, int start, int end) {
+        int i = NAME_STARTS[index];
+        int j = start;
+        while (true) {
+            char a = NAMES.charAt(i);
+            boolean nameEnded = a == ';';
+            boolean sEnded = j == end;
+            if (nameEnded || sEnded) {
+                return nameEnded ? (sEnded ? 0 : -1) : 1;
+            }
+            char b = s.charAt(j);
+            if (a != b) {
+                return a - b;
             }
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed reading data for HTML named character references", e);
+            i++;
+            j++;
+        }
+    }
+
+    private static int[] starts(String entries, char separator) {
+        int[] starts = new int[Html5EntityData.COUNT];
+        int start = 0;
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = start;
+            start = entries.indexOf(separator, start) + 1;
         }
-        entities.put("NewLine", "\n");
-        return entities;
+        return starts;
     }
 }
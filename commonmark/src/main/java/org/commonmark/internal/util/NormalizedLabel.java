@@ -0,0 +1,112 @@
+package org.commonmark.internal.util;
+
+/**
+ * A link label as a map key, in its normalized form: Trimmed, case-folded (see {@link CaseFolding}) and with runs of
+ * whitespace collapsed to a single space. The normalization is done in a single pass, and for looking up a label it
+ * can write into a reused buffer, so that no strings are created.
+ */
+public final class NormalizedLabel {
+
+    private final CharSequence normalized;
+    private int hash;
+
+    private NormalizedLabel(CharSequence normalized) {
+        this.normalized = normalized;
+    }
+
+    public static NormalizedLabel of(CharSequence s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        normalize(s, sb);
+        return new NormalizedLabel(sb.toString());
+    }
+
+    /**
+     * Normalize {@code s} into {@code buffer} (replacing its contents) instead of a new string. Only use the label for
+     * lookups, as it changes when the buffer is reused.
+     */
+    public static NormalizedLabel of(CharSequence s, StringBuilder buffer) {
+        buffer.setLength(0);
+        normalize(s, buffer);
+        return new NormalizedLabel(buffer);
+    }
+
+    public boolean isEmpty() {
+        return normalized.length() == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NormalizedLabel)) {
+            return false;
+        }
+        CharSequence other = ((NormalizedLabel) o).normalized;
+        int length = normalized.length();
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (normalized.charAt(i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            int length = normalized.length();
+            for (int i = 0; i < length; i++) {
+                h = 31 * h + normalized.charAt(i);
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * @return the normalized label as a string
+     */
+    @Override
+    public String toString() {
+        return normalized.toString();
+    }
+
+    private static void normalize(CharSequence s, StringBuilder sb) {
+        int start = 0;
+        int end = s.length();
+        // Same as String#trim
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int i = start;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (isWhitespace(c)) {
+                sb.append(' ');
+                i++;
+                while (i < end && isWhitespace(s.charAt(i))) {
+                    i++;
+                }
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                CaseFolding.appendFolded(Character.toCodePoint(c, s.charAt(i + 1)), sb);
+                i += 2;
+            } else {
+                CaseFolding.appendFolded(c, sb);
+                i++;
+            }
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+}
@@ -2,21 +2,6 @@ package org.commonmark.internal.util;
 
 public class Parsing {
 
-    private static final String TAGNAME = "[A-Za-z][A-Za-z0-9-]*";
-    private static final String ATTRIBUTENAME = "[a-zA-Z_:][a-zA-Z0-9:._-]*";
-    private static final String UNQUOTEDVALUE = "[^\"'=<>`\\x00-\\x20]+";
-    private static final String SINGLEQUOTEDVALUE = "'[^']*'";
-    private static final String DOUBLEQUOTEDVALUE = "\"[^\"]*\"";
-    private static final String ATTRIBUTEVALUE = "(?:" + UNQUOTEDVALUE + "|" + SINGLEQUOTEDVALUE
-            + "|" + DOUBLEQUOTEDVALUE + ")";
-    private static final String ATTRIBUTEVALUESPEC = "(?:" + "\\s*=" + "\\s*" + ATTRIBUTEVALUE
-            + ")";
-    private static final String ATTRIBUTE = "(?:" + "\\s+" + ATTRIBUTENAME + ATTRIBUTEVALUESPEC
-            + "?)";
-
-    public static final String OPENTAG = "<" + TAGNAME + ATTRIBUTE + "*" + "\\s*/?>";
-    public static final String CLOSETAG = "</" + TAGNAME + "\\s*[>]";
-
     public static int CODE_BLOCK_INDENT = 4;
 
     public static int columnsToNextTabStop(int column) {
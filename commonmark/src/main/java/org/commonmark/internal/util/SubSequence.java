@@ -0,0 +1,101 @@
+package org.commonmark.internal.util;
+
+import java.io.IOException;
+
+/**
+ * A view of a range of another {@link CharSequence}, without copying the characters.
+ * <p>
+ * Taking a {@link #subSequence} of a view returns another view of the same underlying characters, so slicing is cheap
+ * no matter how often it's done. Only {@link #toString()} copies.
+ */
+public class SubSequence implements CharSequence {
+
+    private final CharSequence base;
+    private final int beginIndex;
+    private final int endIndex;
+
+    private SubSequence(CharSequence base, int beginIndex, int endIndex) {
+        this.base = base;
+        this.beginIndex = beginIndex;
+        this.endIndex = endIndex;
+    }
+
+    public static CharSequence of(CharSequence base, int beginIndex, int endIndex) {
+        checkBounds(beginIndex, endIndex, base.length());
+        if (base instanceof SubSequence) {
+            SubSequence sub = (SubSequence) base;
+            return new SubSequence(sub.base, sub.beginIndex + beginIndex, sub.beginIndex + endIndex);
+        }
+        return new SubSequence(base, beginIndex, endIndex);
+    }
+
+    /**
+     * @return a view of {@code a} followed by {@code b} if both are views of the same characters and {@code b} starts
+     * where {@code a} ends, null otherwise
+     */
+    public static CharSequence joinAdjacent(CharSequence a, CharSequence b) {
+        if (a instanceof SubSequence && b instanceof SubSequence) {
+            SubSequence first = (SubSequence) a;
+            SubSequence second = (SubSequence) b;
+            if (first.base == second.base && first.endIndex == second.beginIndex) {
+                return new SubSequence(first.base, first.beginIndex, second.endIndex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Append the characters of {@code s} to the builder. When {@code s} is a view, this appends directly from the
+     * underlying characters, avoiding the per-character fallback of {@link StringBuilder#append(CharSequence)}.
+     */
+    public static void appendTo(StringBuilder sb, CharSequence s) {
+        if (s instanceof SubSequence) {
+            SubSequence sub = (SubSequence) s;
+            sb.append(sub.base, sub.beginIndex, sub.endIndex);
+        } else {
+            sb.append(s);
+        }
+    }
+
+    /**
+     * Like {@link #appendTo(StringBuilder, CharSequence)}, for a range of {@code s} and any {@link Appendable}.
+     */
+    public static void appendTo(Appendable out, CharSequence s, int start, int end) throws IOException {
+        if (s instanceof SubSequence) {
+            SubSequence sub = (SubSequence) s;
+            out.append(sub.base, sub.beginIndex + start, sub.beginIndex + end);
+        } else {
+            out.append(s, start, end);
+        }
+    }
+
+    @Override
+    public int length() {
+        return endIndex - beginIndex;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= endIndex - beginIndex) {
+            throw new StringIndexOutOfBoundsException("index " + index + ", length " + length());
+        }
+        return base.charAt(beginIndex + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        checkBounds(start, end, length());
+        return new SubSequence(base, beginIndex + start, beginIndex + end);
+    }
+
+    @Override
+    public String toString() {
+        return base.subSequence(beginIndex, endIndex).toString();
+    }
+
+    private static void checkBounds(int beginIndex, int endIndex, int length) {
+        if (beginIndex < 0 || beginIndex > endIndex || endIndex > length) {
+            throw new StringIndexOutOfBoundsException("begin " + beginIndex + ", end " + endIndex + ", length " + length);
+        }
+    }
+}
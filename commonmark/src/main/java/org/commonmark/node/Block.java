@@ -5,6 +5,8 @@ package org.commonmark.node;
  */
 public abstract class Block extends Node {
 
+    private Runnable lazyChildren = null;
+
     public Block getParent() {
         return (Block) super.getParent();
     }
@@ -16,4 +18,36 @@ public abstract class Block extends Node {
         }
         super.setParent(parent);
     }
+
+    /**
+     * Set a task that adds children to this block, which is run the first time the children are accessed (e.g. using
+     * {@link #getFirstChild()} or {@link #appendChild(Node)}). This is used for lazy inline parsing, see
+     * {@link org.commonmark.parser.Parser.Builder#lazyInlineParsing(boolean)}.
+     *
+     * @param lazyChildren the task to run, or null for none
+     * @since 0.18.0
+     */
+    public void setLazyChildren(Runnable lazyChildren) {
+        this.lazyChildren = lazyChildren;
+    }
+
+    /**
+     * @return the task that adds children to this block when they are first accessed, or null if there is none (or it
+     * already ran)
+     * @see #setLazyChildren(Runnable)
+     * @since 0.18.0
+     */
+    public Runnable getLazyChildren() {
+        return lazyChildren;
+    }
+
+    @Override
+    void loadChildren() {
+        if (lazyChildren != null) {
+            Runnable task = lazyChildren;
+            // Clear first, the task itself adds children
+            lazyChildren = null;
+            task.run();
+        }
+    }
 }
@@ -0,0 +1,692 @@
+package org.commonmark.node;
+
+import org.commonmark.Extension;
+import org.commonmark.parser.SourceLine;
+import org.commonmark.parser.SourceLines;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, read-only representation of a parsed document, for keeping many documents in memory at once (e.g. for
+ * search and indexing). Create one with {@link #of(Document, String)}, and get the classic {@link Node} tree back with
+ * {@link #toNode()} when needed.
+ * <p>
+ * Instead of an object per node with references to its parent and siblings, nodes are stored in parallel arrays and
+ * referenced by index. Node 0 is the document, and indexes of children are always greater than the index of their
+ * parent. Strings such as the literal of {@link Text} nodes are stored as offsets into the source where possible, so
+ * that they don't need to be kept in memory separately. Source spans are stored as plain ints.
+ * <p>
+ * Nodes of other types than the ones in this package (e.g. from extensions) are copied using a
+ * {@link CompactDocumentExtension} for their type, see {@link #of(Document, String, Iterable)}. Their children are
+ * stored like any other nodes. The original document is not changed, and the compact document can be materialized any
+ * number of times, also concurrently.
+ *
+ * @since 0.18.0
+ */
+public class CompactDocument {
+
+    private static final byte DOCUMENT = 0;
+    private static final byte BLOCK_QUOTE = 1;
+    private static final byte BULLET_LIST = 2;
+    private static final byte CODE = 3;
+    private static final byte EMPHASIS = 4;
+    private static final byte FENCED_CODE_BLOCK = 5;
+    private static final byte HARD_LINE_BREAK = 6;
+    private static final byte HEADING = 7;
+    private static final byte THEMATIC_BREAK = 8;
+    private static final byte HTML_INLINE = 9;
+    private static final byte HTML_BLOCK = 10;
+    private static final byte IMAGE = 11;
+    private static final byte INDENTED_CODE_BLOCK = 12;
+    private static final byte LINK = 13;
+    private static final byte LIST_ITEM = 14;
+    private static final byte ORDERED_LIST = 15;
+    private static final byte PARAGRAPH = 16;
+    private static final byte SOFT_LINE_BREAK = 17;
+    private static final byte STRONG_EMPHASIS = 18;
+    private static final byte TEXT = 19;
+    private static final byte LINK_REFERENCE_DEFINITION = 20;
+    private static final byte UNPARSED_INLINES = 21;
+    private static final byte OTHER = 22;
+
+    private static final Map<Class<? extends Node>, Byte> TYPE_CODES = new HashMap<>();
+    private static final List<Class<? extends Node>> TYPES = Arrays.<Class<? extends Node>>asList(
+            Document.class, BlockQuote.class, BulletList.class, Code.class, Emphasis.class, FencedCodeBlock.class,
+            HardLineBreak.class, Heading.class, ThematicBreak.class, HtmlInline.class, HtmlBlock.class, Image.class,
+            IndentedCodeBlock.class, Link.class, ListItem.class, OrderedList.class, Paragraph.class,
+            SoftLineBreak.class, StrongEmphasis.class, Text.class, LinkReferenceDefinition.class,
+            UnparsedInlines.class);
+
+    static {
+        for (int i = 0; i < TYPES.size(); i++) {
+            TYPE_CODES.put(TYPES.get(i), (byte) i);
+        }
+    }
+
+    private final String source;
+    private final int nodeCount;
+    private final byte[] types;
+    private final int[] parents;
+    private final int[] firstChildren;
+    private final int[] nexts;
+    // Index into values where the data of a node starts: the number of source spans, 3 ints (line, column, length)
+    // for each source span, and then the attributes of the node type. Strings are 2 ints (start, length), where a
+    // start >= 0 is an offset into source, and a negative start is an offset into extraChars (-1 meaning 0).
+    private final int[] offsets;
+    private final int[] values;
+    private final String extraChars;
+    // Copies of nodes of other types (without children), and the extensions to copy them with when materializing
+    private final Node[] otherNodes;
+    private final CompactDocumentExtension[] otherNodeExtensions;
+
+    private CompactDocument(Writer writer) {
+        this.source = writer.source;
+        this.nodeCount = writer.nodeCount;
+        this.types = Arrays.copyOf(writer.types, nodeCount);
+        this.parents = Arrays.copyOf(writer.parents, nodeCount);
+        this.firstChildren = Arrays.copyOf(writer.firstChildren, nodeCount);
+        this.nexts = Arrays.copyOf(writer.nexts, nodeCount);
+        this.offsets = Arrays.copyOf(writer.offsets, nodeCount);
+        this.values = Arrays.copyOf(writer.values, writer.valueCount);
+        this.extraChars = writer.extraChars.toString();
+        this.otherNodes = writer.otherNodes.toArray(new Node[0]);
+        this.otherNodeExtensions = writer.otherNodeExtensions.toArray(new CompactDocumentExtension[0]);
+    }
+
+    /**
+     * Create a compact representation of a parsed document that only contains nodes of the types in this package.
+     *
+     * @param document the parsed document
+     * @param source the input that the document was parsed from, used for storing strings as offsets
+     * @return the compact document
+     * @throws IllegalArgumentException if the document contains nodes of other types
+     */
+    public static CompactDocument of(Document document, String source) {
+        return of(document, source, Collections.<Extension>emptyList());
+    }
+
+    /**
+     * Create a compact representation of a parsed document. Nodes of types that are not in this package are copied
+     * using the first of the extensions that implements {@link CompactDocumentExtension} and supports the type, so
+     * pass the same extensions as for parsing. The document is not changed.
+     *
+     * @param document the parsed document
+     * @param source the input that the document was parsed from, used for storing strings as offsets
+     * @param extensions the extensions, of which the ones that implement {@link CompactDocumentExtension} are used
+     * @return the compact document
+     * @throws IllegalArgumentException if the document contains a node of a type that none of the extensions supports
+     */
+    public static CompactDocument of(Document document, String source, Iterable<? extends Extension> extensions) {
+        if (document == null) {
+            throw new NullPointerException("document must not be null");
+        }
+        if (source == null) {
+            throw new NullPointerException("source must not be null");
+        }
+        if (extensions == null) {
+            throw new NullPointerException("extensions must not be null");
+        }
+        List<CompactDocumentExtension> compactDocumentExtensions = new ArrayList<>();
+        for (Extension extension : extensions) {
+            if (extension instanceof CompactDocumentExtension) {
+                compactDocumentExtensions.add((CompactDocumentExtension) extension);
+            }
+        }
+        Writer writer = new Writer(source, compactDocumentExtensions);
+        writer.add(document, -1, 0, source.length());
+        return new CompactDocument(writer);
+    }
+
+    /**
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @param index the node index
+     * @return the class of the node, e.g. {@code Paragraph.class}
+     */
+    public Class<? extends Node> getType(int index) {
+        byte type = types[index];
+        if (type == OTHER) {
+            return otherNodes[values[dataStart(index)]].getClass();
+        }
+        return TYPES.get(type);
+    }
+
+    /**
+     * @param index the node index
+     * @return the index of the parent, or -1 for the document
+     */
+    public int getParent(int index) {
+        return parents[index];
+    }
+
+    /**
+     * @param index the node index
+     * @return the index of the first child, or -1 if the node has no children
+     */
+    public int getFirstChild(int index) {
+        return firstChildren[index];
+    }
+
+    /**
+     * @param index the node index
+     * @return the index of the next sibling, or -1 if the node is the last child of its parent
+     */
+    public int getNext(int index) {
+        return nexts[index];
+    }
+
+    /**
+     * @param index the node index
+     * @return the literal of {@link Text}, {@link Code}, {@link HtmlInline}, {@link HtmlBlock},
+     * {@link FencedCodeBlock} and {@link IndentedCodeBlock} nodes, null for other nodes
+     */
+    public String getLiteral(int index) {
+        int data = dataStart(index);
+        switch (types[index]) {
+            case FENCED_CODE_BLOCK:
+                return getString(data + 5);
+            case TEXT:
+            case CODE:
+            case HTML_INLINE:
+            case HTML_BLOCK:
+            case INDENTED_CODE_BLOCK:
+                return getString(data);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param index the node index
+     * @return the source spans of the node, empty if none
+     */
+    public List<SourceSpan> getSourceSpans(int index) {
+        int offset = offsets[index];
+        int count = values[offset];
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        List<SourceSpan> sourceSpans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int span = offset + 1 + i * 3;
+            sourceSpans.add(SourceSpan.of(values[span], values[span + 1], values[span + 2]));
+        }
+        return sourceSpans;
+    }
+
+    /**
+     * Materialize the classic node tree for the whole document.
+     *
+     * @return a new document node
+     */
+    public Document toNode() {
+        return (Document) toNode(0);
+    }
+
+    /**
+     * Materialize the classic node tree for a node and its descendants.
+     *
+     * @param index the node index
+     * @return a new node
+     */
+    public Node toNode(int index) {
+        Node node = createNode(index);
+        List<SourceSpan> sourceSpans = getSourceSpans(index);
+        if (!sourceSpans.isEmpty()) {
+            node.setSourceSpans(sourceSpans);
+        }
+        for (int child = firstChildren[index]; child != -1; child = nexts[child]) {
+            node.appendChild(toNode(child));
+        }
+        return node;
+    }
+
+    private Node createNode(int index) {
+        int data = dataStart(index);
+        switch (types[index]) {
+            case DOCUMENT:
+                return new Document();
+            case BLOCK_QUOTE:
+                return new BlockQuote();
+            case BULLET_LIST:
+                BulletList bulletList = new BulletList();
+                bulletList.setBulletMarker((char) values[data]);
+                bulletList.setTight(values[data + 1] != 0);
+                return bulletList;
+            case CODE:
+                return new Code(getString(data));
+            case EMPHASIS:
+                return new Emphasis(getString(data));
+            case FENCED_CODE_BLOCK:
+                FencedCodeBlock fencedCodeBlock = new FencedCodeBlock();
+                fencedCodeBlock.setFenceChar((char) values[data]);
+                fencedCodeBlock.setFenceLength(values[data + 1]);
+                fencedCodeBlock.setFenceIndent(values[data + 2]);
+                fencedCodeBlock.setInfo(getString(data + 3));
+                fencedCodeBlock.setLiteral(getString(data + 5));
+                return fencedCodeBlock;
+            case HARD_LINE_BREAK:
+                return new HardLineBreak();
+            case HEADING:
+                Heading heading = new Heading();
+                heading.setLevel(values[data]);
+                return heading;
+            case THEMATIC_BREAK:
+                return new ThematicBreak();
+            case HTML_INLINE:
+                HtmlInline htmlInline = new HtmlInline();
+                htmlInline.setLiteral(getString(data));
+                return htmlInline;
+            case HTML_BLOCK:
+                HtmlBlock htmlBlock = new HtmlBlock();
+                htmlBlock.setLiteral(getString(data));
+                return htmlBlock;
+            case IMAGE:
+                return new Image(getString(data), getString(data + 2));
+            case INDENTED_CODE_BLOCK:
+                IndentedCodeBlock indentedCodeBlock = new IndentedCodeBlock();
+                indentedCodeBlock.setLiteral(getString(data));
+                return indentedCodeBlock;
+            case LINK:
+                return new Link(getString(data), getString(data + 2));
+            case LIST_ITEM:
+                return new ListItem();
+            case ORDERED_LIST:
+                OrderedList orderedList = new OrderedList();
+                orderedList.setStartNumber(values[data]);
+                orderedList.setDelimiter((char) values[data + 1]);
+                orderedList.setTight(values[data + 2] != 0);
+                return orderedList;
+            case PARAGRAPH:
+                return new Paragraph();
+            case SOFT_LINE_BREAK:
+                return new SoftLineBreak();
+            case STRONG_EMPHASIS:
+                return new StrongEmphasis(getString(data));
+            case TEXT:
+                return new Text(getString(data));
+            case LINK_REFERENCE_DEFINITION:
+                return new LinkReferenceDefinition(getString(data), getString(data + 2), getString(data + 4));
+            case UNPARSED_INLINES:
+                int lineCount = values[data];
+                List<SourceLine> lines = new ArrayList<>(lineCount);
+                for (int i = 0; i < lineCount; i++) {
+                    int line = data + 1 + i * 5;
+                    SourceSpan sourceSpan = values[line + 2] != -1 ?
+                            SourceSpan.of(values[line + 2], values[line + 3], values[line + 4]) : null;
+                    lines.add(SourceLine.of(getString(line), sourceSpan));
+                }
+                return new UnparsedInlines(SourceLines.of(lines));
+            case OTHER:
+                int otherIndex = values[data];
+                return copy(otherNodeExtensions[otherIndex], otherNodes[otherIndex]);
+            default:
+                throw new IllegalStateException("Unknown node type " + types[index]);
+        }
+    }
+
+    private static Node copy(CompactDocumentExtension extension, Node node) {
+        Node copy = extension.copyNode(node);
+        checkCopy(extension, node, copy);
+        return copy;
+    }
+
+    private static void checkCopy(CompactDocumentExtension extension, Node node, Node copy) {
+        if (copy == null || copy.getClass() != node.getClass() || copy.getParent() != null ||
+                copy.getFirstChild() != null) {
+            throw new IllegalStateException("Extension " + extension + " didn't copy node " + node +
+                    " to a new node of the same class without children");
+        }
+    }
+
+    private int dataStart(int index) {
+        int offset = offsets[index];
+        return offset + 1 + values[offset] * 3;
+    }
+
+    private String getString(int valueIndex) {
+        int start = values[valueIndex];
+        int length = values[valueIndex + 1];
+        if (length == -1) {
+            return null;
+        } else if (start >= 0) {
+            return source.substring(start, start + length);
+        } else {
+            int extraStart = -start - 1;
+            return extraChars.substring(extraStart, extraStart + length);
+        }
+    }
+
+    private static class Writer {
+
+        // How far after the previous string (or the start of the node) the next string is looked for in the source
+        private static final int MAX_GAP = 256;
+
+        private final String source;
+        private final int[] lineStarts;
+
+        private int nodeCount = 0;
+        private byte[] types = new byte[64];
+        private int[] parents = new int[64];
+        private int[] firstChildren = new int[64];
+        private int[] nexts = new int[64];
+        private int[] offsets = new int[64];
+        private int valueCount = 0;
+        private int[] values = new int[256];
+        private final StringBuilder extraChars = new StringBuilder();
+        private final List<CompactDocumentExtension> extensions;
+        private final List<Node> otherNodes = new ArrayList<>();
+        private final List<CompactDocumentExtension> otherNodeExtensions = new ArrayList<>();
+
+        // Where to look for the next string in the source; strings mostly appear in the same order as in the tree
+        private int searchStart = 0;
+
+        Writer(String source, List<CompactDocumentExtension> extensions) {
+            this.source = source;
+            this.extensions = extensions;
+            this.lineStarts = lineStarts(source);
+        }
+
+        int add(Node node, int parent, int rangeStart, int rangeEnd) {
+            int index = nodeCount++;
+            if (index == types.length) {
+                int capacity = index * 2;
+                types = Arrays.copyOf(types, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+                firstChildren = Arrays.copyOf(firstChildren, capacity);
+                nexts = Arrays.copyOf(nexts, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+            }
+            Byte typeCode = TYPE_CODES.get(node.getClass());
+            byte type = typeCode != null ? typeCode : OTHER;
+            types[index] = type;
+            parents[index] = parent;
+            firstChildren[index] = -1;
+            nexts[index] = -1;
+            offsets[index] = valueCount;
+
+            List<SourceSpan> sourceSpans = node.getSourceSpans();
+            addValue(sourceSpans.size());
+            for (SourceSpan sourceSpan : sourceSpans) {
+                addValue(sourceSpan.getLineIndex());
+                addValue(sourceSpan.getColumnIndex());
+                addValue(sourceSpan.getLength());
+            }
+            if (!sourceSpans.isEmpty()) {
+                SourceSpan first = sourceSpans.get(0);
+                SourceSpan last = sourceSpans.get(sourceSpans.size() - 1);
+                int start = offset(first.getLineIndex(), first.getColumnIndex());
+                int end = offset(last.getLineIndex(), last.getColumnIndex() + last.getLength());
+                if (start >= 0 && end >= start) {
+                    rangeStart = start;
+                    rangeEnd = end;
+                    searchStart = start;
+                }
+            }
+
+            if (type == OTHER) {
+                addValue(otherNodes.size());
+                addOtherNode(node);
+            }
+
+            // Strings are written after the children, because e.g. the destination of a link comes after its text
+            int data = reserveValues(dataLength(node, type));
+            int previous = -1;
+            for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+                int childIndex = add(child, index, rangeStart, rangeEnd);
+                if (previous == -1) {
+                    firstChildren[index] = childIndex;
+                } else {
+                    nexts[previous] = childIndex;
+                }
+                previous = childIndex;
+            }
+            writeData(node, type, data, rangeStart, rangeEnd);
+            return index;
+        }
+
+        /**
+         * Store a copy of the node (without its children, which are added as usual), so that the document isn't
+         * changed and the node can be materialized any number of times.
+         */
+        private void addOtherNode(Node node) {
+            for (CompactDocumentExtension extension : extensions) {
+                Node copy = extension.copyNode(node);
+                if (copy != null) {
+                    checkCopy(extension, node, copy);
+                    otherNodes.add(copy);
+                    otherNodeExtensions.add(extension);
+                    return;
+                }
+            }
+            throw new IllegalArgumentException("Node type " + node.getClass().getName() + " is not supported, " +
+                    "pass an extension that implements CompactDocumentExtension for it");
+        }
+
+        private void writeData(Node node, byte type, int data, int rangeStart, int rangeEnd) {
+            switch (type) {
+                case BULLET_LIST:
+                    BulletList bulletList = (BulletList) node;
+                    values[data] = bulletList.getBulletMarker();
+                    values[data + 1] = bulletList.isTight() ? 1 : 0;
+                    break;
+                case CODE:
+                    writeString(((Code) node).getLiteral(), data, rangeStart, rangeEnd);
+                    break;
+                case EMPHASIS:
+                    writeString(((Emphasis) node).getOpeningDelimiter(), data, rangeStart, rangeEnd);
+                    break;
+                case FENCED_CODE_BLOCK:
+                    FencedCodeBlock fencedCodeBlock = (FencedCodeBlock) node;
+                    values[data] = fencedCodeBlock.getFenceChar();
+                    values[data + 1] = fencedCodeBlock.getFenceLength();
+                    values[data + 2] = fencedCodeBlock.getFenceIndent();
+                    writeString(fencedCodeBlock.getInfo(), data + 3, rangeStart, rangeEnd);
+                    writeString(fencedCodeBlock.getLiteral(), data + 5, rangeStart, rangeEnd);
+                    break;
+                case HEADING:
+                    values[data] = ((Heading) node).getLevel();
+                    break;
+                case HTML_INLINE:
+                    writeString(((HtmlInline) node).getLiteral(), data, rangeStart, rangeEnd);
+                    break;
+                case HTML_BLOCK:
+                    writeString(((HtmlBlock) node).getLiteral(), data, rangeStart, rangeEnd);
+                    break;
+                case IMAGE:
+                    Image image = (Image) node;
+                    writeString(image.getDestination(), data, rangeStart, rangeEnd);
+                    writeString(image.getTitle(), data + 2, rangeStart, rangeEnd);
+                    break;
+                case INDENTED_CODE_BLOCK:
+                    writeString(((IndentedCodeBlock) node).getLiteral(), data, rangeStart, rangeEnd);
+                    break;
+                case LINK:
+                    Link link = (Link) node;
+                    writeString(link.getDestination(), data, rangeStart, rangeEnd);
+                    writeString(link.getTitle(), data + 2, rangeStart, rangeEnd);
+                    break;
+                case ORDERED_LIST:
+                    OrderedList orderedList = (OrderedList) node;
+                    values[data] = orderedList.getStartNumber();
+                    values[data + 1] = orderedList.getDelimiter();
+                    values[data + 2] = orderedList.isTight() ? 1 : 0;
+                    break;
+                case STRONG_EMPHASIS:
+                    writeString(((StrongEmphasis) node).getOpeningDelimiter(), data, rangeStart, rangeEnd);
+                    break;
+                case TEXT:
+                    writeString(((Text) node).getLiteral(), data, rangeStart, rangeEnd);
+                    break;
+                case LINK_REFERENCE_DEFINITION:
+                    LinkReferenceDefinition definition = (LinkReferenceDefinition) node;
+                    writeString(definition.getLabel(), data, rangeStart, rangeEnd);
+                    writeString(definition.getDestination(), data + 2, rangeStart, rangeEnd);
+                    writeString(definition.getTitle(), data + 4, rangeStart, rangeEnd);
+                    break;
+                case UNPARSED_INLINES:
+                    // Number of lines, then for each line its content and source span (line -1 if none)
+                    List<SourceLine> lines = ((UnparsedInlines) node).getSourceLines().getLines();
+                    values[data] = lines.size();
+                    for (int i = 0; i < lines.size(); i++) {
+                        int line = data + 1 + i * 5;
+                        writeString(lines.get(i).getContent().toString(), line, rangeStart, rangeEnd);
+                        SourceSpan sourceSpan = lines.get(i).getSourceSpan();
+                        values[line + 2] = sourceSpan != null ? sourceSpan.getLineIndex() : -1;
+                        values[line + 3] = sourceSpan != null ? sourceSpan.getColumnIndex() : 0;
+                        values[line + 4] = sourceSpan != null ? sourceSpan.getLength() : 0;
+                    }
+                    break;
+            }
+        }
+
+        private static int dataLength(Node node, byte type) {
+            switch (type) {
+                case HEADING:
+                    return 1;
+                case BULLET_LIST:
+                case CODE:
+                case EMPHASIS:
+                case HTML_INLINE:
+                case HTML_BLOCK:
+                case INDENTED_CODE_BLOCK:
+                case STRONG_EMPHASIS:
+                case TEXT:
+                    return 2;
+                case ORDERED_LIST:
+                    return 3;
+                case IMAGE:
+                case LINK:
+                    return 4;
+                case LINK_REFERENCE_DEFINITION:
+                    return 6;
+                case FENCED_CODE_BLOCK:
+                    return 7;
+                case UNPARSED_INLINES:
+                    return 1 + ((UnparsedInlines) node).getSourceLines().getLines().size() * 5;
+                default:
+                    return 0;
+            }
+        }
+
+        private void writeString(String s, int valueIndex, int rangeStart, int rangeEnd) {
+            if (s == null) {
+                values[valueIndex] = 0;
+                values[valueIndex + 1] = -1;
+                return;
+            }
+            int from = Math.max(searchStart, rangeStart);
+            // Only look a bit further than the previous string. Strings that are not in the source as they are (e.g.
+            // the literal of a code block in a block quote) would otherwise each scan the rest of the range, which
+            // without source spans is the rest of the input.
+            int end = (int) Math.min(rangeEnd, (long) from + s.length() + MAX_GAP);
+            int found = indexOf(s, from, end);
+            if (found != -1) {
+                values[valueIndex] = found;
+                searchStart = found + s.length();
+            } else {
+                values[valueIndex] = -extraChars.length() - 1;
+                extraChars.append(s);
+                // Its source is usually at least as long, so the next string comes after that
+                searchStart = from + s.length();
+            }
+            values[valueIndex + 1] = s.length();
+        }
+
+        // Like String.indexOf, but doesn't look past the end of the range
+        private int indexOf(String s, int from, int rangeEnd) {
+            int last = rangeEnd - s.length();
+            if (s.isEmpty()) {
+                return from <= last ? from : -1;
+            }
+            char first = s.charAt(0);
+            for (int i = from; i <= last; i++) {
+                if (source.charAt(i) == first && source.regionMatches(i + 1, s, 1, s.length() - 1)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int offset(int line, int column) {
+            if (line >= lineStarts.length) {
+                return -1;
+            }
+            return lineStarts[line] + column;
+        }
+
+        private void addValue(int value) {
+            int index = reserveValues(1);
+            values[index] = value;
+        }
+
+        private int reserveValues(int count) {
+            int index = valueCount;
+            valueCount += count;
+            if (valueCount > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, valueCount));
+            }
+            return index;
+        }
+
+        private static int[] lineStarts(String source) {
+            int[] lineStarts = new int[16];
+            int lineCount = 0;
+            int lineStart = 0;
+            while (true) {
+                if (lineCount == lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+                }
+                lineStarts[lineCount++] = lineStart;
+                int lineBreak = findLineBreak(source, lineStart);
+                if (lineBreak == -1) {
+                    break;
+                }
+                if (source.charAt(lineBreak) == '\r' && lineBreak + 1 < source.length() && source.charAt(lineBreak + 1) == '\n') {
+                    lineStart = lineBreak + 2;
+                } else {
+                    lineStart = lineBreak + 1;
+                }
+            }
+            return Arrays.copyOf(lineStarts, lineCount);
+        }
+
+        private static int findLineBreak(String s, int startIndex) {
+            for (int i = startIndex; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Extension for {@link CompactDocument}, for storing nodes of the extension's types.
+     *
+     * @since 0.18.0
+     */
+    public interface CompactDocumentExtension extends Extension {
+
+        /**
+         * Copy a node of one of the extension's types: A new node of the same class with the same attributes, but
+         * without children, source spans or links to other nodes. This is used for storing the node and for each
+         * materialization, possibly from multiple threads at the same time.
+         *
+         * @param node the node to copy, of any type that's not in this package
+         * @return the copy, or null if the node is not of one of the extension's types
+         */
+        Node copyNode(Node node);
+    }
+}
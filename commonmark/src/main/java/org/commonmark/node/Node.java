@@ -1,6 +1,5 @@
 package org.commonmark.node;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,7 +15,9 @@ public abstract class Node {
     private Node lastChild = null;
     private Node prev = null;
     private Node next = null;
-    private List<SourceSpan> sourceSpans = null;
+    // Packed as ints instead of SourceSpan objects, see SourceSpanList
+    private int[] sourceSpans = null;
+    private int sourceSpanCount = 0;
 
     public abstract void accept(Visitor visitor);
 
@@ -29,10 +30,12 @@ public abstract class Node {
     }
 
     public Node getFirstChild() {
+        loadChildren();
         return firstChild;
     }
 
     public Node getLastChild() {
+        loadChildren();
         return lastChild;
     }
 
@@ -44,7 +47,14 @@ public abstract class Node {
         this.parent = parent;
     }
 
+    /**
+     * Called before the children are accessed, for children that are added lazily (see {@link Block}).
+     */
+    void loadChildren() {
+    }
+
     public void appendChild(Node child) {
+        loadChildren();
         child.unlink();
         child.setParent(this);
         if (this.lastChild != null) {
@@ -58,6 +68,7 @@ public abstract class Node {
     }
 
     public void prependChild(Node child) {
+        loadChildren();
         child.unlink();
         child.setParent(this);
         if (this.firstChild != null) {
@@ -120,7 +131,7 @@ public abstract class Node {
      * @since 0.16.0
      */
     public List<SourceSpan> getSourceSpans() {
-        return sourceSpans != null ? Collections.unmodifiableList(sourceSpans) : Collections.<SourceSpan>emptyList();
+        return sourceSpans != null ? new SourceSpanList(sourceSpans, sourceSpanCount) : Collections.<SourceSpan>emptyList();
     }
 
     /**
@@ -132,22 +143,26 @@ public abstract class Node {
     public void setSourceSpans(List<SourceSpan> sourceSpans) {
         if (sourceSpans.isEmpty()) {
             this.sourceSpans = null;
+            this.sourceSpanCount = 0;
         } else {
-            this.sourceSpans = new ArrayList<>(sourceSpans);
+            this.sourceSpans = SourceSpanList.addAll(null, 0, sourceSpans);
+            this.sourceSpanCount = sourceSpans.size();
         }
     }
 
     /**
      * Add a source span to the end of the list.
      *
-     * @param sourceSpan the source span to add
+     * @param sourceSpan the source span to add, null is ignored
      * @since 0.16.0
      */
     public void addSourceSpan(SourceSpan sourceSpan) {
-        if (sourceSpans == null) {
-            this.sourceSpans = new ArrayList<>();
+        if (sourceSpan == null) {
+            return;
         }
-        this.sourceSpans.add(sourceSpan);
+        this.sourceSpans = SourceSpanList.add(sourceSpans, sourceSpanCount, sourceSpan.getLineIndex(),
+                sourceSpan.getColumnIndex(), sourceSpan.getLength());
+        this.sourceSpanCount++;
     }
 
     @Override
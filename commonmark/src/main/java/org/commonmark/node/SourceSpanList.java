@@ -0,0 +1,101 @@
+package org.commonmark.node;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of source spans that are stored packed in an int array (line, column and length of each span one
+ * after another), see {@link Node#getSourceSpans()} and {@link SourceSpans}. The {@link SourceSpan} objects are only
+ * created when they are accessed.
+ */
+class SourceSpanList extends AbstractList<SourceSpan> implements RandomAccess {
+
+    private static final int STRIDE = 3;
+
+    private final int[] values;
+    private final int size;
+
+    SourceSpanList(int[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public SourceSpan get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        int i = index * STRIDE;
+        return SourceSpan.of(values[i], values[i + 1], values[i + 2]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Append a span to packed spans.
+     *
+     * @return the array with the span, which is a new array if it had to grow
+     */
+    static int[] add(int[] values, int size, int lineIndex, int columnIndex, int length) {
+        values = ensureCapacity(values, size + 1);
+        int i = size * STRIDE;
+        values[i] = lineIndex;
+        values[i + 1] = columnIndex;
+        values[i + 2] = length;
+        return values;
+    }
+
+    /**
+     * Append spans to packed spans, copying the ints directly if the spans are packed too.
+     *
+     * @return the array with the spans, which is a new array if it had to grow
+     */
+    static int[] addAll(int[] values, int size, List<SourceSpan> sourceSpans) {
+        int count = sourceSpans.size();
+        values = ensureCapacity(values, size + count);
+        if (sourceSpans instanceof SourceSpanList) {
+            SourceSpanList other = (SourceSpanList) sourceSpans;
+            System.arraycopy(other.values, 0, values, size * STRIDE, count * STRIDE);
+        } else {
+            int i = size * STRIDE;
+            for (SourceSpan sourceSpan : sourceSpans) {
+                values[i++] = sourceSpan.getLineIndex();
+                values[i++] = sourceSpan.getColumnIndex();
+                values[i++] = sourceSpan.getLength();
+            }
+        }
+        return values;
+    }
+
+    static int getLineIndex(int[] values, int index) {
+        return values[index * STRIDE];
+    }
+
+    static int getColumnIndex(int[] values, int index) {
+        return values[index * STRIDE + 1];
+    }
+
+    static int getLength(int[] values, int index) {
+        return values[index * STRIDE + 2];
+    }
+
+    static void setLength(int[] values, int index, int length) {
+        values[index * STRIDE + 2] = length;
+    }
+
+    private static int[] ensureCapacity(int[] values, int size) {
+        int length = size * STRIDE;
+        if (values == null) {
+            return new int[length];
+        }
+        if (values.length < length) {
+            return Arrays.copyOf(values, Math.max(values.length * 2, length));
+        }
+        return values;
+    }
+}
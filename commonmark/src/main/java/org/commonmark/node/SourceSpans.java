@@ -1,6 +1,5 @@
 package org.commonmark.node;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -11,14 +10,16 @@ import java.util.List;
  */
 public class SourceSpans {
 
-    private List<SourceSpan> sourceSpans;
+    // Packed as ints instead of SourceSpan objects, see SourceSpanList
+    private int[] sourceSpans;
+    private int size = 0;
 
     public static SourceSpans empty() {
         return new SourceSpans();
     }
 
     public List<SourceSpan> getSourceSpans() {
-        return sourceSpans != null ? sourceSpans : Collections.<SourceSpan>emptyList();
+        return sourceSpans != null ? new SourceSpanList(sourceSpans, size) : Collections.<SourceSpan>emptyList();
     }
 
     public void addAllFrom(Iterable<? extends Node> nodes) {
@@ -32,22 +33,17 @@ public class SourceSpans {
             return;
         }
 
-        if (sourceSpans == null) {
-            sourceSpans = new ArrayList<>();
-        }
-
-        if (sourceSpans.isEmpty()) {
-            sourceSpans.addAll(other);
-        } else {
-            int lastIndex = sourceSpans.size() - 1;
-            SourceSpan a = sourceSpans.get(lastIndex);
+        if (size != 0) {
+            int lastIndex = size - 1;
+            int line = SourceSpanList.getLineIndex(sourceSpans, lastIndex);
+            int end = SourceSpanList.getColumnIndex(sourceSpans, lastIndex) + SourceSpanList.getLength(sourceSpans, lastIndex);
             SourceSpan b = other.get(0);
-            if (a.getLineIndex() == b.getLineIndex() && a.getColumnIndex() + a.getLength() == b.getColumnIndex()) {
-                sourceSpans.set(lastIndex, SourceSpan.of(a.getLineIndex(), a.getColumnIndex(), a.getLength() + b.getLength()));
-                sourceSpans.addAll(other.subList(1, other.size()));
-            } else {
-                sourceSpans.addAll(other);
+            if (line == b.getLineIndex() && end == b.getColumnIndex()) {
+                SourceSpanList.setLength(sourceSpans, lastIndex, SourceSpanList.getLength(sourceSpans, lastIndex) + b.getLength());
+                other = other.subList(1, other.size());
             }
         }
+        sourceSpans = SourceSpanList.addAll(sourceSpans, size, other);
+        size += other.size();
     }
 }
@@ -2,7 +2,8 @@ package org.commonmark.node;
 
 public class Text extends Node {
 
-    private String literal;
+    // Either a String, or a view of the input until getLiteral is called
+    private CharSequence literal;
 
     public Text() {
     }
@@ -17,13 +18,41 @@ public class Text extends Node {
     }
 
     public String getLiteral() {
-        return literal;
+        CharSequence literal = this.literal;
+        if (literal == null || literal instanceof String) {
+            return (String) literal;
+        }
+        String s = literal.toString();
+        this.literal = s;
+        return s;
     }
 
     public void setLiteral(String literal) {
         this.literal = literal;
     }
 
+    /**
+     * Get the literal without building a string from a view, e.g. for appending it somewhere.
+     *
+     * @return the literal, either a {@code String} or a view of the input
+     * @see org.commonmark.parser.Parser.Builder#lazyLiterals(boolean)
+     * @since 0.18.0
+     */
+    public CharSequence getLiteralView() {
+        return literal;
+    }
+
+    /**
+     * Set the literal to a character sequence (e.g. a view of the input) that is only turned into a string when
+     * {@link #getLiteral()} is called. The characters must not change.
+     *
+     * @param literal the literal
+     * @since 0.18.0
+     */
+    public void setLiteralView(CharSequence literal) {
+        this.literal = literal;
+    }
+
     @Override
     protected String toStringAttributes() {
         return "literal=" + literal;
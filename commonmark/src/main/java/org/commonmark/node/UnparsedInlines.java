@@ -0,0 +1,33 @@
+package org.commonmark.node;
+
+import org.commonmark.parser.SourceLines;
+
+/**
+ * The inline content of a block as it is in the source, without being parsed. Only used when parsing with
+ * {@link org.commonmark.parser.Parser.Builder#blockOnly(boolean)}, where it's the only child of each block that would
+ * otherwise have inline content (e.g. paragraphs and headings).
+ *
+ * @since 0.18.0
+ */
+public class UnparsedInlines extends CustomNode {
+
+    private final SourceLines sourceLines;
+
+    public UnparsedInlines(SourceLines sourceLines) {
+        this.sourceLines = sourceLines;
+    }
+
+    /**
+     * @return the lines of the content (including their source spans if enabled)
+     */
+    public SourceLines getSourceLines() {
+        return sourceLines;
+    }
+
+    /**
+     * @return the content, with lines separated by {@code \n}
+     */
+    public String getContent() {
+        return sourceLines.getContent();
+    }
+}
@@ -0,0 +1,18 @@
+package org.commonmark.parser;
+
+import org.commonmark.node.Node;
+
+/**
+ * Receives the top-level blocks of a document one by one when parsing with
+ * {@link Parser#parseReaderStreaming(java.io.Reader, BlockHandler)}.
+ *
+ * @since 0.18.0
+ */
+public interface BlockHandler {
+
+    /**
+     * @param node a top-level node (a block or a {@link org.commonmark.node.LinkReferenceDefinition}), completely parsed
+     *             (including inlines) and detached from the document
+     */
+    void handle(Node node);
+}
@@ -0,0 +1,17 @@
+package org.commonmark.parser;
+
+import org.commonmark.node.Block;
+
+/**
+ * A condition for blocks, see {@link Parser.Builder#stopParsingWhen(BlockPredicate)}.
+ *
+ * @since 0.18.0
+ */
+public interface BlockPredicate {
+
+    /**
+     * @param block a block that was just closed (its inline content is not parsed yet)
+     * @return true if the condition is met
+     */
+    boolean test(Block block);
+}
@@ -2,8 +2,12 @@ package org.commonmark.parser;
 
 import org.commonmark.Extension;
 import org.commonmark.internal.DocumentParser;
+import org.commonmark.internal.IncrementalParser;
+import org.commonmark.internal.InlineDispatchTable;
 import org.commonmark.internal.InlineParserContextImpl;
 import org.commonmark.internal.InlineParserImpl;
+import org.commonmark.internal.UnparsedInlineParser;
+import org.commonmark.internal.util.NormalizedLabel;
 import org.commonmark.node.Block;
 import org.commonmark.node.BlockQuote;
 import org.commonmark.node.FencedCodeBlock;
@@ -21,8 +25,11 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -41,6 +48,11 @@ public class Parser {
     private final InlineParserFactory inlineParserFactory;
     private final List<PostProcessor> postProcessors;
     private final IncludeSourceSpans includeSourceSpans;
+    private final boolean lineViews;
+    private final Executor inlineParsingExecutor;
+    private final boolean lazyInlineParsing;
+    private final BlockPredicate stopCondition;
+    private final ThreadLocal<DocumentParser> reusableDocumentParsers;
 
     private Parser(Builder builder) {
         this.blockParserFactories = DocumentParser.calculateBlockParserFactories(builder.blockParserFactories, builder.enabledBlockTypes);
@@ -48,11 +60,17 @@ public class Parser {
         this.postProcessors = builder.postProcessors;
         this.delimiterProcessors = builder.delimiterProcessors;
         this.includeSourceSpans = builder.includeSourceSpans;
+        // Literals can only be views of the input if the lines are
+        this.lineViews = builder.lineViews || builder.lazyLiterals;
+        this.inlineParsingExecutor = builder.inlineParsingExecutor;
+        this.lazyInlineParsing = builder.lazyInlineParsing;
+        this.stopCondition = builder.stopCondition;
+        this.reusableDocumentParsers = builder.reuseParserState ? new ThreadLocal<DocumentParser>() : null;
 
         // Try to construct an inline parser. Invalid configuration might result in an exception, which we want to
         // detect as soon as possible.
         this.inlineParserFactory.create(new InlineParserContextImpl(delimiterProcessors,
-                Collections.<String, LinkReferenceDefinition>emptyMap()));
+                Collections.<NormalizedLabel, LinkReferenceDefinition>emptyMap()));
     }
 
     /**
@@ -67,7 +85,7 @@ public class Parser {
     /**
      * Parse the specified input text into a tree of nodes.
      * <p>
-     * This method is thread-safe (a new parser state is used for each invocation).
+     * This method is thread-safe (parser state is never shared between concurrent invocations).
      *
      * @param input the text to parse - must not be null
      * @return the root node
@@ -76,8 +94,13 @@ public class Parser {
         if (input == null) {
             throw new NullPointerException("input must not be null");
         }
-        DocumentParser documentParser = createDocumentParser();
-        Node document = documentParser.parse(input);
+        DocumentParser documentParser = obtainDocumentParser();
+        Node document;
+        try {
+            document = documentParser.parse(input);
+        } finally {
+            releaseDocumentParser(documentParser);
+        }
         return postProcess(document);
     }
 
@@ -93,7 +116,7 @@ public class Parser {
      * Note that if you have a file with a byte order mark (BOM), you need to skip it before handing the reader to this
      * library. There's existing classes that do that, e.g. see {@code BOMInputStream} in Commons IO.
      * <p>
-     * This method is thread-safe (a new parser state is used for each invocation).
+     * This method is thread-safe (parser state is never shared between concurrent invocations).
      *
      * @param input the reader to parse - must not be null
      * @return the root node
@@ -104,13 +127,170 @@ public class Parser {
             throw new NullPointerException("input must not be null");
         }
 
-        DocumentParser documentParser = createDocumentParser();
-        Node document = documentParser.parse(input);
+        DocumentParser documentParser = obtainDocumentParser();
+        Node document;
+        try {
+            document = documentParser.parse(input);
+        } finally {
+            releaseDocumentParser(documentParser);
+        }
         return postProcess(document);
     }
 
-    private DocumentParser createDocumentParser() {
-        return new DocumentParser(blockParserFactories, inlineParserFactory, delimiterProcessors, includeSourceSpans);
+    /**
+     * Parse the specified reader block by block, passing each top-level block to the handler as soon as it's
+     * complete. The caller is responsible for closing the reader.
+     * <p>
+     * Unlike {@link #parseReader(Reader)}, this doesn't keep the whole document in memory, which makes it suitable for
+     * very big inputs. Handled nodes are detached from the document, they don't have a parent. Post processors are
+     * applied to each node separately.
+     * <p>
+     * Note that because the input is only read once, link references can only be resolved using link reference
+     * definitions that come before them in the input (e.g. with {@code [foo]} followed by {@code [foo]: /url} later,
+     * {@code [foo]} stays text). If the input has definitions after their use, use
+     * {@link #parseReaderStreaming(Reader, Reader, BlockHandler)}.
+     * <p>
+     * This method is thread-safe (parser state is never shared between concurrent invocations).
+     *
+     * @param input the reader to parse - must not be null
+     * @param blockHandler the handler for the parsed blocks - must not be null
+     * @throws IOException when reading throws an exception
+     * @since 0.18.0
+     */
+    public void parseReaderStreaming(Reader input, BlockHandler blockHandler) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        if (blockHandler == null) {
+            throw new NullPointerException("blockHandler must not be null");
+        }
+
+        DocumentParser documentParser = obtainDocumentParser();
+        try {
+            documentParser.parse(input, postProcessing(blockHandler));
+        } finally {
+            releaseDocumentParser(documentParser);
+        }
+    }
+
+    /**
+     * Like {@link #parseReaderStreaming(Reader, BlockHandler)}, but resolves all link references the same way as
+     * {@link #parseReader(Reader)}, by reading the input twice: The first pass reads {@code definitionsInput} to
+     * collect link reference definitions (only the blocks are parsed and they're not kept in memory), the second pass
+     * reads {@code input} and passes the blocks to the handler.
+     * <p>
+     * Both readers need to provide the same content, e.g. by opening the same file twice. The caller is responsible
+     * for closing the readers.
+     *
+     * @param input the reader to parse - must not be null
+     * @param definitionsInput a reader with the same content as {@code input} - must not be null
+     * @param blockHandler the handler for the parsed blocks - must not be null
+     * @throws IOException when reading throws an exception
+     * @since 0.18.0
+     */
+    public void parseReaderStreaming(Reader input, Reader definitionsInput, BlockHandler blockHandler) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        if (definitionsInput == null) {
+            throw new NullPointerException("definitionsInput must not be null");
+        }
+        if (blockHandler == null) {
+            throw new NullPointerException("blockHandler must not be null");
+        }
+
+        DocumentParser documentParser = obtainDocumentParser();
+        try {
+            // Copy because resetting the document parser clears its definitions
+            Map<NormalizedLabel, LinkReferenceDefinition> definitions =
+                    new LinkedHashMap<>(documentParser.parseDefinitions(definitionsInput));
+            documentParser.reset();
+            documentParser.addDefinitions(definitions);
+            documentParser.parse(input, postProcessing(blockHandler));
+        } finally {
+            releaseDocumentParser(documentParser);
+        }
+    }
+
+    /**
+     * Update a previously parsed document for an edit of its input, by re-parsing only the part of the input that is
+     * affected by the edit. This is useful for editors with a live preview, where the time for parsing should depend
+     * on the size of the edit rather than the size of the whole document.
+     * <p>
+     * The edit is specified in lines (0-based): Lines {@code startLine} to {@code oldEndLine} (exclusive) of the
+     * previous input were replaced with lines {@code startLine} to {@code newEndLine} (exclusive) of the new input,
+     * all other lines are unchanged. E.g. typing a character in line 5 is {@code (5, 6, 6)}, and inserting two lines
+     * before line 5 is {@code (5, 5, 7)}.
+     * <p>
+     * The top-level blocks that are affected by the edit are parsed again and replace the previous ones in the
+     * document; the other blocks are kept (with their source spans updated). Post processors are applied to each new
+     * top-level block separately. If the edit changes the number of lines, the source spans of the following blocks'
+     * descendants are only updated when the children of their parents are first accessed (e.g. when rendering), so
+     * the edit itself doesn't cost more for their content. A reference to a descendant node that was kept from before
+     * the edit may have outdated source spans until then. If the edit adds, removes or changes link reference definitions, or the document
+     * doesn't have source spans, the whole input is parsed again and a new document is returned.
+     * <p>
+     * This requires source spans, see {@link Builder#includeSourceSpans(IncludeSourceSpans)}. The result is the same
+     * as parsing the new input with {@link #parse(String)} as long as the block parsers only depend on the lines of the
+     * blocks they parse and the line after them (which is the case for all built-in ones).
+     *
+     * @param previousDocument the document that this parser returned for the previous input - must not be null
+     * @param input the new input text - must not be null
+     * @param startLine the index of the first changed line
+     * @param oldEndLine the index of the line after the last changed line in the previous input
+     * @param newEndLine the index of the line after the last changed line in the new input
+     * @return the updated document, which is {@code previousDocument} or a new document if the whole input was parsed
+     * again
+     * @throws IllegalStateException if the parser doesn't include source spans, or stops parsing early
+     * @since 0.18.0
+     */
+    public Node parseIncremental(Node previousDocument, String input, int startLine, int oldEndLine, int newEndLine) {
+        if (previousDocument == null) {
+            throw new NullPointerException("previousDocument must not be null");
+        }
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        if (startLine < 0 || oldEndLine < startLine || newEndLine < startLine) {
+            throw new IllegalArgumentException("Invalid edit: startLine " + startLine + ", oldEndLine " + oldEndLine +
+                    ", newEndLine " + newEndLine);
+        }
+        if (includeSourceSpans == IncludeSourceSpans.NONE) {
+            throw new IllegalStateException("Incremental parsing needs source spans, see Builder#includeSourceSpans");
+        }
+        if (stopCondition != null) {
+            throw new IllegalStateException("Incremental parsing needs the whole input to be parsed, see Builder#stopParsingWhen");
+        }
+
+        DocumentParser documentParser = obtainDocumentParser();
+        boolean updated;
+        try {
+            IncrementalParser incrementalParser = new IncrementalParser(documentParser, postProcessors);
+            updated = incrementalParser.reparse(previousDocument, input, startLine, oldEndLine, newEndLine);
+        } finally {
+            releaseDocumentParser(documentParser);
+        }
+        return updated ? previousDocument : parse(input);
+    }
+
+    private DocumentParser obtainDocumentParser() {
+        if (reusableDocumentParsers != null) {
+            DocumentParser documentParser = reusableDocumentParsers.get();
+            if (documentParser != null) {
+                // Not available while in use, so that a nested parse on the same thread gets a new one
+                reusableDocumentParsers.remove();
+                return documentParser;
+            }
+        }
+        return new DocumentParser(blockParserFactories, inlineParserFactory, delimiterProcessors, includeSourceSpans,
+                lineViews, inlineParsingExecutor, lazyInlineParsing, stopCondition);
+    }
+
+    private void releaseDocumentParser(DocumentParser documentParser) {
+        if (reusableDocumentParsers != null) {
+            documentParser.reset();
+            reusableDocumentParsers.set(documentParser);
+        }
     }
 
     private Node postProcess(Node document) {
@@ -120,6 +300,18 @@ public class Parser {
         return document;
     }
 
+    private BlockHandler postProcessing(final BlockHandler blockHandler) {
+        if (postProcessors.isEmpty()) {
+            return blockHandler;
+        }
+        return new BlockHandler() {
+            @Override
+            public void handle(Node node) {
+                blockHandler.handle(postProcess(node));
+            }
+        };
+    }
+
     /**
      * Builder for configuring a {@link Parser}.
      */
@@ -130,6 +322,13 @@ public class Parser {
         private Set<Class<? extends Block>> enabledBlockTypes = DocumentParser.getDefaultBlockParserTypes();
         private InlineParserFactory inlineParserFactory;
         private IncludeSourceSpans includeSourceSpans = IncludeSourceSpans.NONE;
+        private boolean lineViews = false;
+        private Executor inlineParsingExecutor;
+        private boolean reuseParserState = false;
+        private boolean lazyLiterals = false;
+        private boolean lazyInlineParsing = false;
+        private boolean blockOnly = false;
+        private BlockPredicate stopCondition;
 
         /**
          * @return the configured {@link Parser}
@@ -204,6 +403,166 @@ public class Parser {
             return this;
         }
 
+        /**
+         * Whether the lines of the input to {@link Parser#parse(String)} should be views of the input instead of
+         * copies.
+         * <p>
+         * With this enabled, {@link SourceLine#getContent()} (and the lines block parsers get via
+         * {@link org.commonmark.parser.block.BlockParser#addLine(SourceLine)}) is a {@link CharSequence} backed by the
+         * input string rather than a {@link String}. This avoids copying the whole input once before block parsing
+         * starts, which helps with large inputs. Note that custom block parsers then can't rely on the content being a
+         * {@code String}, e.g. {@code equals("---")} will not work, use {@code toString()} or compare characters.
+         * <p>
+         * By default, lines are copied. Has no effect on {@link Parser#parseReader(Reader)}.
+         *
+         * @param lineViews true to use views of the input for lines, false to copy them
+         * @return {@code this}
+         * @since 0.18.0
+         */
+        public Builder lineViews(boolean lineViews) {
+            this.lineViews = lineViews;
+            return this;
+        }
+
+        /**
+         * Use the executor to parse inline content of blocks in parallel.
+         * <p>
+         * Inline parsing (emphasis, links, etc) happens after all blocks of a document have been parsed. With an
+         * executor, the blocks are split into batches that are inline parsed as separate tasks, each with its own
+         * {@link InlineParser} (created by the {@link #inlineParserFactory(InlineParserFactory) inline parser
+         * factory}). The parsing thread runs the tasks that the executor hasn't started yet itself, and waits for the
+         * others to complete, so parsing on a thread of the same executor doesn't deadlock (e.g. with a bounded thread
+         * pool). Tasks that the executor rejects are run on the parsing thread as well. Documents with few blocks are
+         * parsed on the calling thread.
+         * <p>
+         * This speeds up parsing big documents on machines with multiple cores, e.g. using a
+         * {@link java.util.concurrent.ForkJoinPool}. Note that custom block parsers must only change their own block in
+         * {@link org.commonmark.parser.block.BlockParser#parseInlines(InlineParser)} for this to be safe.
+         * <p>
+         * By default, no executor is used and inline parsing happens on the calling thread.
+         *
+         * @param inlineParsingExecutor the executor to use for inline parsing, or {@code null} to parse on the calling
+         *                              thread
+         * @return {@code this}
+         * @since 0.18.0
+         */
+        public Builder inlineParsingExecutor(Executor inlineParsingExecutor) {
+            this.inlineParsingExecutor = inlineParsingExecutor;
+            return this;
+        }
+
+        /**
+         * Whether to keep the parser state (block parser lists, link reference definitions) per thread and reuse it
+         * for the next document parsed on the same thread, instead of creating it for each document.
+         * <p>
+         * This reduces the setup cost per document, which matters when parsing lots of small documents. The state is
+         * cleared after each document, so results are the same as without reuse. Parsing stays thread-safe, and a
+         * nested parse on the same thread (e.g. from a post processor) uses separate state. Note that each thread
+         * that used the parser keeps its state for as long as the parser is reachable. The inline parser is created
+         * for each document, and none of the state references the previous document or its input.
+         * <p>
+         * By default, the state is created for each document.
+         *
+         * @param reuseParserState true to reuse parser state per thread, false to create it for each document
+         * @return {@code this}
+         * @since 0.18.0
+         */
+        public Builder reuseParserState(boolean reuseParserState) {
+            this.reuseParserState = reuseParserState;
+            return this;
+        }
+
+        /**
+         * Whether the literals of {@link org.commonmark.node.Text}, {@link org.commonmark.node.Code} and
+         * {@link org.commonmark.node.HtmlInline} nodes should be views of the input instead of strings.
+         * <p>
+         * Most literals are parts of the input as they are, so with this enabled, they are only turned into strings
+         * when {@code getLiteral()} is called, and {@link org.commonmark.renderer.html.HtmlRenderer} appends them
+         * directly from the input (see {@code getLiteralView()}). That saves memory and time when documents are mostly
+         * rendered, not inspected. Note that the nodes then keep the input in memory. Enabling this also enables
+         * {@link #lineViews(boolean)}. It has no effect with a custom {@link #inlineParserFactory(InlineParserFactory)
+         * inline parser factory}, or on {@link Parser#parseReader(Reader)}.
+         * <p>
+         * By default, literals are strings.
+         *
+         * @param lazyLiterals true for literals that are views of the input, false for strings
+         * @return {@code this}
+         * @since 0.18.0
+         */
+        public Builder lazyLiterals(boolean lazyLiterals) {
+            this.lazyLiterals = lazyLiterals;
+            return this;
+        }
+
+        /**
+         * Whether to parse the inline content of a block (e.g. the text, emphasis and links of a paragraph or
+         * heading) only when its children are first accessed, e.g. using {@link Node#getFirstChild()} or by a
+         * {@link org.commonmark.node.Visitor} descending into it.
+         * <p>
+         * Inline parsing is most of the work of parsing, so this saves time when only some blocks of a document are
+         * looked at, e.g. only the headings or the first few blocks. The result is the same as with parsing
+         * everything up front. Note that:
+         * <ul>
+         * <li>Post processors that visit the whole document (e.g. autolinking) parse all of it</li>
+         * <li>Blocks keep their unparsed content in memory until they're inline parsed</li>
+         * <li>A document with unparsed blocks is not safe to be accessed from multiple threads concurrently, even when
+         * only reading it</li>
+         * </ul>
+         * This applies to {@link Parser#parse(String)} and {@link Parser#parseReader(Reader)}, and takes precedence
+         * over {@link #inlineParsingExecutor(Executor)}.
+         * <p>
+         * By default, all inline content is parsed up front.
+         *
+         * @param lazyInlineParsing true to parse inline content when it's first accessed, false to parse it up front
+         * @return {@code this}
+         * @since 0.18.0
+         */
+        public Builder lazyInlineParsing(boolean lazyInlineParsing) {
+            this.lazyInlineParsing = lazyInlineParsing;
+            return this;
+        }
+
+        /**
+         * Whether to only parse the blocks of documents, without parsing inline content at all.
+         * <p>
+         * Use this when only the block structure is needed, e.g. for a table of contents or checking if there's a code
+         * block. Instead of inline nodes, each block that has inline content (e.g. paragraphs, headings, or table cells
+         * of extensions) gets a single {@link org.commonmark.node.UnparsedInlines} child with the source lines of the
+         * content. Renderers render that content as plain text.
+         * <p>
+         * This replaces the {@link #inlineParserFactory(InlineParserFactory) inline parser factory}. By default, inline
+         * content is parsed.
+         *
+         * @param blockOnly true to only parse blocks, false to also parse inline content
+         * @return {@code this}
+         * @see #stopParsingWhen(BlockPredicate)
+         * @since 0.18.0
+         */
+        public Builder blockOnly(boolean blockOnly) {
+            this.blockOnly = blockOnly;
+            return this;
+        }
+
+        /**
+         * Stop parsing the input as soon as a block is closed that meets the condition, e.g. for finding the first
+         * heading of a document without parsing (or, with {@link Parser#parseReader(Reader)}, reading) the rest of it.
+         * <p>
+         * Blocks are closed when the first line after them is parsed, and nested blocks are closed before the blocks
+         * containing them. The resulting document contains the blocks up to and including the one that met the
+         * condition, and the blocks that were still open at that point, with their content so far. It can be combined
+         * with {@link #blockOnly(boolean)}, but not with {@link Parser#parseIncremental}.
+         * <p>
+         * By default, the whole input is parsed.
+         *
+         * @param stopCondition the condition to check for each closed block, or {@code null} to parse the whole input
+         * @return {@code this}
+         * @since 0.18.0
+         */
+        public Builder stopParsingWhen(BlockPredicate stopCondition) {
+            this.stopCondition = stopCondition;
+            return this;
+        }
+
         /**
          * Adds a custom block parser factory.
          * <p>
@@ -272,13 +631,23 @@ public class Parser {
         }
 
         private InlineParserFactory getInlineParserFactory() {
+            if (blockOnly) {
+                return new InlineParserFactory() {
+                    @Override
+                    public InlineParser create(InlineParserContext inlineParserContext) {
+                        return new UnparsedInlineParser();
+                    }
+                };
+            }
             if (inlineParserFactory != null) {
                 return inlineParserFactory;
             }
+            // The dispatch table only depends on the configuration, which is the same for all parses
+            final InlineDispatchTable dispatchTable = new InlineDispatchTable(delimiterProcessors, lazyLiterals);
             return new InlineParserFactory() {
                 @Override
                 public InlineParser create(InlineParserContext inlineParserContext) {
-                    return new InlineParserImpl(inlineParserContext);
+                    return new InlineParserImpl(inlineParserContext, dispatchTable);
                 }
             };
         }
@@ -1,5 +1,6 @@
 package org.commonmark.parser;
 
+import org.commonmark.internal.util.SubSequence;
 import org.commonmark.node.SourceSpan;
 
 import java.util.ArrayList;
@@ -48,11 +49,25 @@ public class SourceLines {
             if (i != 0) {
                 sb.append('\n');
             }
-            sb.append(lines.get(i).getContent());
+            SubSequence.appendTo(sb, lines.get(i).getContent());
         }
         return sb.toString();
     }
 
+    /**
+     * Like {@link #getContent()}, but returns the content of a single line as it is instead of copying it, so it's a
+     * view of the input with {@link Parser.Builder#lineViews(boolean)}. Content of multiple lines is copied.
+     *
+     * @return the content
+     * @since 0.18.0
+     */
+    public CharSequence getContentView() {
+        if (lines.size() == 1) {
+            return lines.get(0).getContent();
+        }
+        return getContent();
+    }
+
     public List<SourceSpan> getSourceSpans() {
         List<SourceSpan> sourceSpans = new ArrayList<>();
         for (SourceLine line : lines) {
@@ -0,0 +1,28 @@
+package org.commonmark.parser.block;
+
+import org.commonmark.parser.BlockHandler;
+import org.commonmark.parser.InlineParser;
+
+/**
+ * A block parser that can hand out complete parts of its block before the whole block is complete, when parsing with
+ * {@link org.commonmark.parser.Parser#parseReaderStreaming(java.io.Reader, BlockHandler)}. This allows blocks with a
+ * lot of independent parts (e.g. the rows of a table) to be handled without keeping all of them in memory.
+ * <p>
+ * Only applies to top-level blocks. Otherwise (or when not streaming), the parser is used like any other
+ * {@link BlockParser}.
+ *
+ * @since 0.18.0
+ */
+public interface StreamingBlockParser extends BlockParser {
+
+    /**
+     * Called after each line of the input while the block is open. Parts that are complete can be parsed (including
+     * inlines) and passed to the handler, in order. Everything before the block has been handled at that point, and
+     * the block itself is handled after it has been closed (and {@link #parseInlines} was called as usual), so it
+     * should only contain what wasn't handed out yet.
+     *
+     * @param inlineParser the inline parser to use for parsing the inline content of the parts
+     * @param blockHandler the handler to pass the parts to, as detached nodes
+     */
+    void handleCompleteParts(InlineParser inlineParser, BlockHandler blockHandler);
+}
@@ -0,0 +1,116 @@
+package org.commonmark.renderer.html;
+
+import org.commonmark.node.Node;
+import org.commonmark.node.SourceSpan;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Cache for the rendered HTML of top-level blocks, for rendering a document again after parts of it changed, see
+ * {@link HtmlRenderer#render(Node, Appendable, BlockHtmlCache)}.
+ * <p>
+ * Blocks are identified by identity, not by content. That works well with
+ * {@link org.commonmark.parser.Parser#parseIncremental}, which keeps the node instances of unchanged blocks and creates
+ * new ones for changed blocks. If nodes are modified in place, the affected top-level block needs to be
+ * {@link #invalidate(Node) invalidated}. Entries are held weakly, so blocks that are no longer referenced can be
+ * garbage collected.
+ * <p>
+ * A block whose source spans only moved to other lines (e.g. after an incremental parse that inserted lines before it)
+ * still uses its cached HTML. If node renderers or attribute providers output source positions, create the cache with
+ * {@link #BlockHtmlCache(boolean) sourcePositions} so that such blocks are rendered again.
+ * <p>
+ * The cached HTML is only valid for the renderer that rendered it; using the cache with a different renderer clears it.
+ * This class is not thread-safe.
+ *
+ * @since 0.18.0
+ */
+public class BlockHtmlCache {
+
+    private final Map<Node, Fragment> fragments = new WeakHashMap<>();
+    private final boolean sourcePositions;
+    private HtmlRenderer renderer;
+
+    /**
+     * Create a cache for HTML that doesn't depend on the source positions of blocks.
+     */
+    public BlockHtmlCache() {
+        this(false);
+    }
+
+    /**
+     * @param sourcePositions true if the rendered HTML depends on source positions (e.g. an attribute provider adds
+     *                        the line of each block), so that a block needs to be rendered again when its source spans
+     *                        moved to other lines; false to reuse the HTML of such blocks
+     */
+    public BlockHtmlCache(boolean sourcePositions) {
+        this.sourcePositions = sourcePositions;
+    }
+
+    /**
+     * Remove the cached HTML for a top-level block, e.g. after it (or one of its descendants) was modified.
+     *
+     * @param block the top-level block
+     */
+    public void invalidate(Node block) {
+        fragments.remove(block);
+    }
+
+    /**
+     * Remove all cached HTML.
+     */
+    public void clear() {
+        fragments.clear();
+    }
+
+    void useRenderer(HtmlRenderer renderer) {
+        if (this.renderer != renderer) {
+            fragments.clear();
+            this.renderer = renderer;
+        }
+    }
+
+    String get(Node block) {
+        Fragment fragment = fragments.get(block);
+        if (fragment == null || !sameSourceSpans(fragment.sourceSpans, block.getSourceSpans())) {
+            return null;
+        }
+        return fragment.html;
+    }
+
+    void put(Node block, String html) {
+        fragments.put(block, new Fragment(html, block.getSourceSpans()));
+    }
+
+    /**
+     * Unless the HTML depends on source positions, spans are the same if they only differ by the same number of lines
+     * (the block moved but wasn't changed).
+     */
+    private boolean sameSourceSpans(List<SourceSpan> cached, List<SourceSpan> current) {
+        if (sourcePositions || cached.isEmpty() || cached.size() != current.size()) {
+            return cached.equals(current);
+        }
+        int lineDelta = current.get(0).getLineIndex() - cached.get(0).getLineIndex();
+        for (int i = 0; i < cached.size(); i++) {
+            SourceSpan a = cached.get(i);
+            SourceSpan b = current.get(i);
+            if (a.getLineIndex() + lineDelta != b.getLineIndex() || a.getColumnIndex() != b.getColumnIndex() ||
+                    a.getLength() != b.getLength()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Fragment {
+
+        private final String html;
+        private final List<SourceSpan> sourceSpans;
+
+        Fragment(String html, List<SourceSpan> sourceSpans) {
+            this.html = html;
+            this.sourceSpans = sourceSpans;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.commonmark.renderer.html;
 
+import org.commonmark.internal.util.SubSequence;
 import org.commonmark.node.*;
 import org.commonmark.renderer.NodeRenderer;
 
@@ -40,7 +41,8 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
                 Code.class,
                 HtmlInline.class,
                 SoftLineBreak.class,
-                HardLineBreak.class
+                HardLineBreak.class,
+                UnparsedInlines.class
         ));
     }
 
@@ -214,22 +216,22 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
 
     @Override
     public void visit(Text text) {
-        html.text(text.getLiteral());
+        html.text(text.getLiteralView());
     }
 
     @Override
     public void visit(Code code) {
         html.tag("code", getAttrs(code, "code"));
-        html.text(code.getLiteral());
+        html.text(code.getLiteralView());
         html.tag("/code");
     }
 
     @Override
     public void visit(HtmlInline htmlInline) {
         if (context.shouldEscapeHtml()) {
-            html.text(htmlInline.getLiteral());
+            html.text(htmlInline.getLiteralView());
         } else {
-            html.raw(htmlInline.getLiteral());
+            html.raw(htmlInline.getLiteralView());
         }
     }
 
@@ -244,6 +246,13 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
         html.line();
     }
 
+    @Override
+    public void visit(CustomNode customNode) {
+        if (customNode instanceof UnparsedInlines) {
+            html.text(((UnparsedInlines) customNode).getContent());
+        }
+    }
+
     @Override
     protected void visitChildren(Node parent) {
         Node node = parent.getFirstChild();
@@ -304,7 +313,7 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
 
         @Override
         public void visit(Text text) {
-            sb.append(text.getLiteral());
+            SubSequence.appendTo(sb, text.getLiteralView());
         }
 
         @Override
@@ -0,0 +1,308 @@
+package org.commonmark.renderer.html;
+
+import org.commonmark.parser.Parser;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Caches the HTML for markdown inputs, for when the same input is rendered over and over (e.g. templates or
+ * boilerplate). Start with the {@link #builder} method, configure the cache and build it. Example:
+ * <pre><code>
+ * HtmlRenderCache cache = HtmlRenderCache.builder().parser(parser).renderer(renderer).build();
+ * String html = cache.render("input text");
+ * </code></pre>
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the input, so the inputs don't need to be kept in memory. A cache is bound to
+ * the parser and renderer it was built with (and with that, their extensions and options); use a separate cache for
+ * each configuration. The cache is bounded by the total weight of its entries (by default the length of the HTML),
+ * and evicts the least recently used entries when it would exceed the maximum.
+ * <p>
+ * This class is thread-safe. Parsing and rendering on a miss happens outside of the lock, so concurrent misses for
+ * the same input can render it more than once.
+ *
+ * @since 0.18.0
+ */
+public class HtmlRenderCache {
+
+    private final Parser parser;
+    private final HtmlRenderer renderer;
+    private final long maximumWeight;
+    private final Weigher weigher;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    private HtmlRenderCache(Builder builder) {
+        this.parser = builder.parser != null ? builder.parser : Parser.builder().build();
+        this.renderer = builder.renderer != null ? builder.renderer : HtmlRenderer.builder().build();
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+    }
+
+    /**
+     * Create a new builder for configuring an {@link HtmlRenderCache}.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Render the input to HTML, or return the cached HTML if the same input was rendered before.
+     *
+     * @param input the markdown input - must not be null
+     * @return the rendered HTML
+     */
+    public String render(String input) {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        Key key = new Key(sha256(input));
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hitCount++;
+                return entry.html;
+            }
+            missCount++;
+        }
+
+        String html = renderer.render(parser.parse(input));
+        int entryWeight = weigher.weigh(input, html);
+        if (entryWeight < 0) {
+            throw new IllegalStateException("Weigher returned negative weight " + entryWeight);
+        }
+        if (entryWeight <= maximumWeight) {
+            synchronized (this) {
+                Entry previous = entries.put(key, new Entry(html, entryWeight));
+                if (previous != null) {
+                    weight -= previous.weight;
+                }
+                weight += entryWeight;
+                evict();
+            }
+        }
+        return html;
+    }
+
+    /**
+     * Remove all entries. Doesn't reset the statistics.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * @return the number of cached entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the total weight of the cached entries
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the number of times {@link #render} returned cached HTML
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of times {@link #render} had to parse and render the input
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the ratio of hits to all calls of {@link #render}, or 1.0 if it wasn't called yet
+     */
+    public synchronized double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * @return the number of entries that were removed to stay within the maximum weight
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void evict() {
+        // Iteration order is least recently used first
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (weight > maximumWeight && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            iterator.remove();
+            weight -= entry.weight;
+            evictionCount++;
+        }
+    }
+
+    private static byte[] sha256(String input) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        // Hash the UTF-16 code units directly instead of encoding the whole input first
+        byte[] buffer = new byte[Math.min(input.length(), 2048) * 2];
+        int position = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            buffer[position++] = (byte) (c >> 8);
+            buffer[position++] = (byte) c;
+            if (position == buffer.length) {
+                digest.update(buffer, 0, position);
+                position = 0;
+            }
+        }
+        digest.update(buffer, 0, position);
+        return digest.digest();
+    }
+
+    /**
+     * Calculates the weight of cache entries, see {@link Builder#weigher(Weigher)}.
+     */
+    public interface Weigher {
+
+        /**
+         * @param input the markdown input
+         * @param html the rendered HTML
+         * @return the weight of the entry, must not be negative
+         */
+        int weigh(String input, String html);
+    }
+
+    /**
+     * Builder for configuring an {@link HtmlRenderCache}. See methods for default configuration.
+     */
+    public static class Builder {
+
+        private Parser parser;
+        private HtmlRenderer renderer;
+        private long maximumWeight = 16 * 1024 * 1024;
+        private Weigher weigher = new Weigher() {
+            @Override
+            public int weigh(String input, String html) {
+                return html.length();
+            }
+        };
+
+        /**
+         * @return the configured {@link HtmlRenderCache}
+         */
+        public HtmlRenderCache build() {
+            return new HtmlRenderCache(this);
+        }
+
+        /**
+         * The parser to use for inputs that are not cached. Default is a parser with the default configuration.
+         *
+         * @param parser the parser
+         * @return {@code this}
+         */
+        public Builder parser(Parser parser) {
+            if (parser == null) {
+                throw new NullPointerException("parser must not be null");
+            }
+            this.parser = parser;
+            return this;
+        }
+
+        /**
+         * The renderer to use for inputs that are not cached. Default is a renderer with the default configuration.
+         *
+         * @param renderer the renderer
+         * @return {@code this}
+         */
+        public Builder renderer(HtmlRenderer renderer) {
+            if (renderer == null) {
+                throw new NullPointerException("renderer must not be null");
+            }
+            this.renderer = renderer;
+            return this;
+        }
+
+        /**
+         * The maximum total weight of the cached entries. When adding an entry would exceed it, the least recently
+         * used entries are evicted. Entries that are heavier than this on their own are not cached.
+         * <p>
+         * Default is 16 Mi, which with the default weigher means about 32 MB of HTML.
+         *
+         * @param maximumWeight the maximum weight
+         * @return {@code this}
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("maximumWeight must not be negative");
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * How to calculate the weight of an entry. Default is the length of the HTML.
+         *
+         * @param weigher the weigher
+         * @return {@code this}
+         */
+        public Builder weigher(Weigher weigher) {
+            if (weigher == null) {
+                throw new NullPointerException("weigher must not be null");
+            }
+            this.weigher = weigher;
+            return this;
+        }
+    }
+
+    private static class Key {
+
+        private final byte[] hash;
+        private final int hashCode;
+
+        Key(byte[] hash) {
+            this.hash = hash;
+            this.hashCode = Arrays.hashCode(hash);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(hash, ((Key) o).hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class Entry {
+
+        private final String html;
+        private final int weight;
+
+        Entry(String html, int weight) {
+            this.html = html;
+            this.weight = weight;
+        }
+    }
+}
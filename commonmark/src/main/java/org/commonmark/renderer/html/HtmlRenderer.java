@@ -2,11 +2,14 @@ package org.commonmark.renderer.html;
 
 import org.commonmark.Extension;
 import org.commonmark.internal.renderer.NodeRendererMap;
+import org.commonmark.internal.renderer.Utf8Appendable;
 import org.commonmark.internal.util.Escaping;
 import org.commonmark.node.*;
 import org.commonmark.renderer.NodeRenderer;
 import org.commonmark.renderer.Renderer;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -68,6 +71,38 @@ public class HtmlRenderer implements Renderer {
         context.render(node);
     }
 
+    /**
+     * Render the tree of nodes as UTF-8 encoded HTML to the output stream.
+     * <p>
+     * The characters are encoded while rendering, so this is more efficient than rendering to a string (or a
+     * {@link java.io.Writer}) and then encoding it. The output is buffered internally; the stream is not flushed or
+     * closed, that's the responsibility of the caller.
+     *
+     * @param node the root node
+     * @param output output stream for the UTF-8 encoded HTML
+     * @throws IOException when writing to the output stream throws an exception
+     * @since 0.18.0
+     */
+    public void renderUtf8(Node node, OutputStream output) throws IOException {
+        if (node == null) {
+            throw new NullPointerException("node must not be null");
+        }
+        if (output == null) {
+            throw new NullPointerException("output must not be null");
+        }
+        Utf8Appendable appendable = new Utf8Appendable(output);
+        try {
+            render(node, appendable);
+        } catch (RuntimeException e) {
+            // HtmlWriter wraps exceptions of the Appendable
+            if (e.getClass() == RuntimeException.class && e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+        appendable.flushBuffer();
+    }
+
     @Override
     public String render(Node node) {
         if (node == null) {
@@ -78,6 +113,67 @@ public class HtmlRenderer implements Renderer {
         return sb.toString();
     }
 
+    /**
+     * Render the document like {@link #render(Node, Appendable)}, but reuse the HTML of top-level blocks that were
+     * rendered before with the same cache. Only the blocks that are not in the cache, or whose source spans changed
+     * since they were cached (see {@link BlockHtmlCache}), are rendered (and then added to the cache).
+     * <p>
+     * This is useful for rendering a document again after only some of its blocks changed, e.g. after
+     * {@link org.commonmark.parser.Parser#parseIncremental}. Note that this renders the top-level blocks separately,
+     * so node renderers or attribute providers that depend on other blocks of the document (e.g. generating unique IDs
+     * for headings) don't work correctly with this.
+     *
+     * @param document the document to render
+     * @param output output for rendering
+     * @param cache the cache for the HTML of top-level blocks
+     * @since 0.18.0
+     */
+    public void render(Node document, Appendable output, BlockHtmlCache cache) {
+        if (document == null) {
+            throw new NullPointerException("document must not be null");
+        }
+        if (cache == null) {
+            throw new NullPointerException("cache must not be null");
+        }
+        cache.useRenderer(this);
+
+        // Context for rendering blocks that are not cached, created when needed
+        RendererContext context = null;
+        StringBuilder sb = null;
+        try {
+            for (Node block = document.getFirstChild(); block != null; block = block.getNext()) {
+                String html = cache.get(block);
+                if (html == null) {
+                    if (context == null) {
+                        sb = new StringBuilder();
+                        context = new RendererContext(new HtmlWriter(sb));
+                    }
+                    sb.setLength(0);
+                    context.render(block);
+                    html = sb.toString();
+                    cache.put(block, html);
+                }
+                output.append(html);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Render the document to a string, see {@link #render(Node, Appendable, BlockHtmlCache)}.
+     *
+     * @param document the document to render
+     * @param cache the cache for the HTML of top-level blocks
+     * @return the rendered HTML
+     * @since 0.18.0
+     */
+    public String render(Node document, BlockHtmlCache cache) {
+        StringBuilder sb = new StringBuilder();
+        render(document, sb, cache);
+        return sb.toString();
+    }
+
     /**
      * Builder for configuring an {@link HtmlRenderer}. See methods for default configuration.
      */
@@ -1,6 +1,7 @@
 package org.commonmark.renderer.html;
 
 import org.commonmark.internal.util.Escaping;
+import org.commonmark.internal.util.SubSequence;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -11,6 +12,9 @@ public class HtmlWriter {
     private static final Map<String, String> NO_ATTRIBUTES = Collections.emptyMap();
 
     private final Appendable buffer;
+    // If a subclass overrides append, all output goes through it (as it did before text was escaped into the buffer
+    // directly), so that it sees everything
+    private final boolean appendOverridden;
     private char lastChar = 0;
 
     public HtmlWriter(Appendable out) {
@@ -18,14 +22,47 @@ public class HtmlWriter {
             throw new NullPointerException("out must not be null");
         }
         this.buffer = out;
+        this.appendOverridden = overridesAppend(getClass());
     }
 
     public void raw(String s) {
         append(s);
     }
 
+    /**
+     * Like {@link #raw(String)}, but for any characters, e.g. a view of the input (see
+     * {@link org.commonmark.node.Text#getLiteralView()}), without building a string first.
+     *
+     * @since 0.18.0
+     */
+    public void raw(CharSequence s) {
+        if (appendOverridden) {
+            append(s.toString());
+            return;
+        }
+        try {
+            SubSequence.appendTo(buffer, s, 0, s.length());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        int length = s.length();
+        if (length != 0) {
+            lastChar = s.charAt(length - 1);
+        }
+    }
+
     public void text(String text) {
-        append(Escaping.escapeHtml(text));
+        appendEscaped(text);
+    }
+
+    /**
+     * Like {@link #text(String)}, but for any characters, e.g. a view of the input (see
+     * {@link org.commonmark.node.Text#getLiteralView()}), without building a string first.
+     *
+     * @since 0.18.0
+     */
+    public void text(CharSequence text) {
+        appendEscaped(text);
     }
 
     public void tag(String name) {
@@ -42,9 +79,9 @@ public class HtmlWriter {
         if (attrs != null && !attrs.isEmpty()) {
             for (Map.Entry<String, String> attrib : attrs.entrySet()) {
                 append(" ");
-                append(Escaping.escapeHtml(attrib.getKey()));
+                appendEscaped(attrib.getKey());
                 append("=\"");
-                append(Escaping.escapeHtml(attrib.getValue()));
+                appendEscaped(attrib.getValue());
                 append("\"");
             }
         }
@@ -61,6 +98,34 @@ public class HtmlWriter {
         }
     }
 
+    /**
+     * Append the HTML-escaped string. Escapes directly into the output instead of building an escaped copy first,
+     * unless {@link #append(String)} is overridden.
+     *
+     * @since 0.18.0
+     */
+    protected void appendEscaped(CharSequence s) {
+        if (appendOverridden) {
+            append(Escaping.escapeHtml(s.toString()));
+            return;
+        }
+        try {
+            Escaping.escapeHtml(s, buffer);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        int length = s.length();
+        if (length != 0) {
+            // All escape sequences end with ';'
+            char c = s.charAt(length - 1);
+            lastChar = c == '&' || c == '<' || c == '>' || c == '"' ? ';' : c;
+        }
+    }
+
+    /**
+     * Append to the output. All output of this writer goes through this method, so it can be overridden to track or
+     * filter the output (at the cost of building strings for text that could otherwise be written directly).
+     */
     protected void append(String s) {
         try {
             buffer.append(s);
@@ -72,4 +137,18 @@ public class HtmlWriter {
             lastChar = s.charAt(length - 1);
         }
     }
+
+    private static boolean overridesAppend(Class<?> c) {
+        for (; c != HtmlWriter.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("append", String.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not in this class, try the superclass
+            } catch (SecurityException e) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -47,7 +47,8 @@ public class CoreTextContentNodeRenderer extends AbstractVisitor implements Node
                 Code.class,
                 HtmlInline.class,
                 SoftLineBreak.class,
-                HardLineBreak.class
+                HardLineBreak.class,
+                UnparsedInlines.class
         ));
     }
 
@@ -205,6 +206,13 @@ public class CoreTextContentNodeRenderer extends AbstractVisitor implements Node
         writeText(text.getLiteral());
     }
 
+    @Override
+    public void visit(CustomNode customNode) {
+        if (customNode instanceof UnparsedInlines) {
+            writeText(((UnparsedInlines) customNode).getContent());
+        }
+    }
+
     @Override
     protected void visitChildren(Node parent) {
         Node node = parent.getFirstChild();
@@ -2,7 +2,10 @@ package org.commonmark.internal.util;
 
 import org.junit.Test;
 
+import java.io.IOException;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class EscapingTest {
 
@@ -18,4 +21,45 @@ public class EscapingTest {
         assertEquals("&lt; both &gt;", Escaping.escapeHtml("< both >"));
         assertEquals("&lt; middle &amp; too &gt;", Escaping.escapeHtml("< middle & too >"));
     }
+
+    @Test
+    public void testEscapeHtmlToAppendable() throws IOException {
+        assertEquals("", escapeHtmlToAppendable(""));
+        assertEquals("nothing to escape", escapeHtmlToAppendable("nothing to escape"));
+        assertEquals("&amp;", escapeHtmlToAppendable("&"));
+        assertEquals("&quot;&quot;", escapeHtmlToAppendable("\"\""));
+        assertEquals("&lt; start", escapeHtmlToAppendable("< start"));
+        assertEquals("end &gt;", escapeHtmlToAppendable("end >"));
+        assertEquals("&lt; middle &amp; too &gt;", escapeHtmlToAppendable("< middle & too >"));
+    }
+
+    @Test
+    public void testUnescapeString() {
+        String nothing = "nothing to unescape \\a &;";
+        assertSame(nothing, Escaping.unescapeString(nothing));
+        String unknownEntity = "&nosuchentity; &a;";
+        assertSame(unknownEntity, Escaping.unescapeString(unknownEntity));
+
+        assertEquals("*a* \\\\", Escaping.unescapeString("\\*a\\* \\\\\\"));
+        assertEquals("& & \u00e4 \u00e4 \u00e4 \uD83D\uDE00", Escaping.unescapeString("&amp; &AMP; &auml; &#228; &#XE4; &#x1F600;"));
+        assertEquals("\uFFFD \uFFFD &#; &#x; &#12345678; &#x1234567;",
+                Escaping.unescapeString("&#0; &#1234567; &#; &#x; &#12345678; &#x1234567;"));
+        assertEquals("&amp && \\&amp", Escaping.unescapeString("&amp &\\& \\\\&amp"));
+    }
+
+    @Test
+    public void testPercentEncodeUrl() {
+        String nothing = "https://example.com/a-b_c.d~e?f=g&h=i#j%20k";
+        assertSame(nothing, Escaping.percentEncodeUrl(nothing));
+
+        assertEquals("a%20b%22%3C%3E%5B%5D%5C", Escaping.percentEncodeUrl("a b\"<>[]\\"));
+        assertEquals("%25%25A%25G1%20", Escaping.percentEncodeUrl("%%A%G1%20"));
+        assertEquals("%C3%A4%E2%82%AC%F0%9F%98%80%3F", Escaping.percentEncodeUrl("\u00e4\u20ac\uD83D\uDE00\uD83D"));
+    }
+
+    private static String escapeHtmlToAppendable(String input) throws IOException {
+        StringBuilder sb = new StringBuilder("prefix:");
+        Escaping.escapeHtml(input, sb);
+        return sb.substring("prefix:".length());
+    }
 }
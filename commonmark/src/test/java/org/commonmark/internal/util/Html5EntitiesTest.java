@@ -0,0 +1,61 @@
+package org.commonmark.internal.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class Html5EntitiesTest {
+
+    @Test
+    public void namedEntities() {
+        assertEquals("\u00C6", Html5Entities.entityToString("&AElig;"));
+        assertEquals("&", Html5Entities.entityToString("&amp;"));
+        assertEquals("&", Html5Entities.entityToString("&AMP;"));
+        assertEquals("\u200C", Html5Entities.entityToString("&zwnj;"));
+        assertEquals("\n", Html5Entities.entityToString("&NewLine;"));
+        assertEquals("\t", Html5Entities.entityToString("&Tab;"));
+        assertEquals("\u2233", Html5Entities.entityToString("&CounterClockwiseContourIntegral;"));
+        assertEquals("\uD835\uDD04", Html5Entities.entityToString("&Afr;"));
+        assertEquals("\u2269\uFE00", Html5Entities.entityToString("&gvertneqq;"));
+    }
+
+    @Test
+    public void unknownEntities() {
+        assertEquals("&Amp;", Html5Entities.entityToString("&Amp;"));
+        assertEquals("&am;", Html5Entities.entityToString("&am;"));
+        assertEquals("&ampx;", Html5Entities.entityToString("&ampx;"));
+        assertEquals("&;", Html5Entities.entityToString("&;"));
+        assertEquals("amp", Html5Entities.entityToString("amp"));
+        assertNull(Html5Entities.entityToString("&zzzz;", 0, 6));
+    }
+
+    @Test
+    public void numericCharacterReferences() {
+        assertEquals("#", Html5Entities.entityToString("&#35;"));
+        assertEquals("\u00E4", Html5Entities.entityToString("&#xE4;"));
+        assertEquals("\u00E4", Html5Entities.entityToString("&#XE4;"));
+        assertEquals("\uD83D\uDE00", Html5Entities.entityToString("&#x1F600;"));
+        assertEquals("\uFFFD", Html5Entities.entityToString("&#0;"));
+        assertEquals("\uFFFD", Html5Entities.entityToString("&#;"));
+        assertEquals("\uFFFD", Html5Entities.entityToString("&#x110000;"));
+    }
+
+    @Test
+    public void lookupInRange() {
+        String s = "a &amp; b";
+        assertEquals("&", Html5Entities.entityToString(s, 2, 7));
+        assertNull(Html5Entities.entityToString(s, 2, 6));
+    }
+
+    @Test
+    public void namesAreSorted() {
+        String[] names = Html5EntityData.NAMES.split(";");
+        assertEquals(Html5EntityData.COUNT, names.length);
+        assertEquals(Html5EntityData.COUNT, Html5EntityData.VALUES.split("\0").length);
+        for (int i = 1; i < names.length; i++) {
+            assertTrue(names[i - 1] + " before " + names[i], names[i - 1].compareTo(names[i]) < 0);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.commonmark.internal.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NormalizedLabelTest {
+
+    @Test
+    public void normalizes() {
+        assertEquals("foo", NormalizedLabel.of("foo").toString());
+        assertEquals("foo", NormalizedLabel.of("  FoO \n").toString());
+        assertEquals("foo bar", NormalizedLabel.of("foo \t\r\n bar").toString());
+        assertEquals("\u00E4 \u03B1", NormalizedLabel.of("\u00C4  \u0391").toString());
+        assertEquals("\uD801\uDC28", NormalizedLabel.of("\uD801\uDC00").toString());
+        assertEquals("", NormalizedLabel.of(" \n ").toString());
+    }
+
+    @Test
+    public void equalsNormalized() {
+        assertLabelsEqual("foo", "FOO");
+        assertLabelsEqual("Foo  bar", "foo\nbar");
+        assertLabelsEqual(" foo bar\t", "foo bar");
+        assertLabelsEqual("\u00C4", "\u00E4");
+        assertLabelsEqual("\uD801\uDC00", "\uD801\uDC28");
+        assertLabelsEqual("", "  ");
+
+        assertNotEquals(NormalizedLabel.of("foo"), NormalizedLabel.of("foo bar"));
+        assertNotEquals(NormalizedLabel.of("foo bar"), NormalizedLabel.of("foobar"));
+        assertNotEquals(NormalizedLabel.of("foo"), NormalizedLabel.of("fo"));
+    }
+
+    @Test
+    public void caseFolding() {
+        // Multiple characters
+        assertEquals("ss", NormalizedLabel.of("\u00DF").toString());
+        assertEquals("ss", NormalizedLabel.of("\u1E9E").toString());
+        assertEquals("ffi", NormalizedLabel.of("\uFB03").toString());
+        assertEquals("i\u0307", NormalizedLabel.of("\u0130").toString());
+        // Final sigma is the same as the other sigmas
+        assertLabelsEqual("\u03A3\u03A3", "\u03C3\u03C2");
+        // Folds to upper case for Cherokee
+        assertEquals("\u13A0", NormalizedLabel.of("\uAB70").toString());
+        assertLabelsEqual("stra\u00DFe", "STRASSE");
+    }
+
+    @Test
+    public void buffer() {
+        StringBuilder buffer = new StringBuilder("old");
+        NormalizedLabel label = NormalizedLabel.of(" Foo \n Bar ", buffer);
+        assertEquals("foo bar", buffer.toString());
+        assertLabelsEqual(label, NormalizedLabel.of("foo bar"));
+        assertFalse(label.isEmpty());
+        assertTrue(NormalizedLabel.of("  ", buffer).isEmpty());
+    }
+
+    private static void assertLabelsEqual(String a, String b) {
+        assertLabelsEqual(NormalizedLabel.of(a), NormalizedLabel.of(b));
+    }
+
+    private static void assertLabelsEqual(NormalizedLabel a, NormalizedLabel b) {
+        assertEquals(a, b);
+        assertEquals(b, a);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.toString(), b.toString());
+    }
+}
@@ -0,0 +1,185 @@
+package org.commonmark.test;
+
+import org.commonmark.node.*;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.commonmark.testutil.Strings.repeat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CompactDocumentTest {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final Parser SPANS_PARSER = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Test
+    public void specExamples() {
+        for (String source : ExampleReader.readExampleSources(TestResources.getSpec())) {
+            assertRoundTrip(PARSER, source);
+            assertRoundTrip(SPANS_PARSER, source);
+        }
+    }
+
+    @Test
+    public void wholeSpec() {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        assertRoundTrip(PARSER, spec);
+        assertRoundTrip(SPANS_PARSER, spec);
+    }
+
+    @Test
+    public void navigation() {
+        String source = "# Heading\n\nsome *text*\n";
+        CompactDocument compact = CompactDocument.of((Document) SPANS_PARSER.parse(source), source);
+
+        assertEquals(7, compact.getNodeCount());
+        assertEquals(Document.class, compact.getType(0));
+        assertEquals(-1, compact.getParent(0));
+
+        int heading = compact.getFirstChild(0);
+        assertEquals(Heading.class, compact.getType(heading));
+        assertEquals("Heading", compact.getLiteral(compact.getFirstChild(heading)));
+        assertEquals(Collections.singletonList(SourceSpan.of(0, 0, 9)), compact.getSourceSpans(heading));
+
+        int paragraph = compact.getNext(heading);
+        assertEquals(Paragraph.class, compact.getType(paragraph));
+        assertEquals(-1, compact.getNext(paragraph));
+        assertNull(compact.getLiteral(paragraph));
+
+        int text = compact.getFirstChild(paragraph);
+        assertEquals("some ", compact.getLiteral(text));
+        int emphasis = compact.getNext(text);
+        assertEquals(Emphasis.class, compact.getType(emphasis));
+        assertEquals(paragraph, compact.getParent(emphasis));
+        assertEquals("text", compact.getLiteral(compact.getFirstChild(emphasis)));
+    }
+
+    @Test
+    public void customNodesAreCopied() {
+        Document document = new Document();
+        Paragraph paragraph = new Paragraph();
+        document.appendChild(paragraph);
+        MarkerNode custom = new MarkerNode("one");
+        custom.appendChild(new Text("inside"));
+        paragraph.appendChild(custom);
+        paragraph.appendChild(new Text("after"));
+
+        CompactDocument compact = CompactDocument.of(document, "",
+                Collections.singletonList(new MarkerExtension()));
+        assertEquals(5, compact.getNodeCount());
+        assertEquals(MarkerNode.class, compact.getType(2));
+        assertEquals("inside", compact.getLiteral(compact.getFirstChild(2)));
+
+        // The original document is unchanged
+        assertSame(paragraph, custom.getParent());
+        assertSame(custom, paragraph.getFirstChild());
+
+        Node first = compact.toNode().getFirstChild().getFirstChild();
+        Node second = compact.toNode().getFirstChild().getFirstChild();
+        for (Node node : Arrays.asList(first, second)) {
+            assertNotSame(custom, node);
+            assertEquals("one", ((MarkerNode) node).getValue());
+            assertEquals("inside", ((Text) node.getFirstChild()).getLiteral());
+            assertEquals("after", ((Text) node.getNext()).getLiteral());
+        }
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void unsupportedNodes() {
+        Document document = new Document();
+        document.appendChild(new MarkerNode("one"));
+        try {
+            CompactDocument.of(document, "");
+            fail("expected exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains(MarkerNode.class.getName()));
+        }
+        assertNotNull(document.getFirstChild());
+    }
+
+    @Test
+    public void unparsedInlines() {
+        Parser parser = Parser.builder().blockOnly(true)
+                .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+        String source = "# Heading *one*\n\n> some\n> *text*\n";
+        assertRoundTrip(parser, source);
+
+        Document document = (Document) parser.parse(source);
+        UnparsedInlines original = (UnparsedInlines) document.getLastChild().getFirstChild().getFirstChild();
+        UnparsedInlines unparsed = (UnparsedInlines) CompactDocument.of(document, source).toNode()
+                .getLastChild().getFirstChild().getFirstChild();
+        assertEquals("some\n*text*", unparsed.getContent());
+        assertEquals(2, original.getSourceLines().getSourceSpans().size());
+        assertEquals(original.getSourceLines().getSourceSpans(), unparsed.getSourceLines().getSourceSpans());
+    }
+
+    @Test(timeout = 3000)
+    public void stringsNotInSourceScaleLinearly() {
+        // The literals of code blocks in block quotes are not in the source as they are, as the source has the `>`
+        String source = repeat("> ```\n> one\n> two\n> ```\n\n", 20_000);
+        assertRoundTrip(PARSER, source);
+        assertRoundTrip(SPANS_PARSER, source);
+    }
+
+    private static void assertRoundTrip(Parser parser, String source) {
+        Document document = (Document) parser.parse(source);
+        String expectedHtml = RENDERER.render(document);
+        String expectedSpans = dumpSourceSpans(document);
+
+        Document materialized = CompactDocument.of(document, source).toNode();
+        assertEquals(source, expectedHtml, RENDERER.render(materialized));
+        assertEquals(source, expectedSpans, dumpSourceSpans(materialized));
+    }
+
+    private static String dumpSourceSpans(Node node) {
+        StringBuilder sb = new StringBuilder();
+        dumpSourceSpans(node, sb);
+        return sb.toString();
+    }
+
+    private static void dumpSourceSpans(Node node, StringBuilder sb) {
+        sb.append(node.getClass().getSimpleName()).append(' ').append(node.getSourceSpans()).append('\n');
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            dumpSourceSpans(child, sb);
+        }
+    }
+
+    private static class MarkerNode extends CustomNode {
+
+        private final String value;
+
+        MarkerNode(String value) {
+            this.value = value;
+        }
+
+        String getValue() {
+            return value;
+        }
+    }
+
+    private static class MarkerExtension implements CompactDocument.CompactDocumentExtension {
+
+        @Override
+        public Node copyNode(Node node) {
+            if (node instanceof MarkerNode) {
+                return new MarkerNode(((MarkerNode) node).getValue());
+            }
+            return null;
+        }
+    }
+}
@@ -59,6 +59,15 @@ public class DelimiterProcessorTest extends RenderingTestCase {
         assertEquals("<p>(1)(2)both(/2)(/1)</p>\n", RENDERER.render(parser.parse("+++both+++")));
     }
 
+    @Test
+    public void nonAsciiDelimiter() {
+        Parser parser = Parser.builder()
+                .customDelimiterProcessor(new CustomDelimiterProcessor('§', 1))
+                .build();
+        assertEquals("<p>foo <em>bar</em></p>\n", RENDERER.render(parser.parse("§foo§ *bar*")));
+        assertEquals("<p>foo <em>bar</em> baz§</p>\n", RENDERER.render(parser.parse("§foo *bar* baz§§")));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void multipleDelimitersWithSameLength() {
         Parser.builder()
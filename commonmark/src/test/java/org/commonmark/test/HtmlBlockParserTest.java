@@ -0,0 +1,42 @@
+package org.commonmark.test;
+
+import org.junit.Test;
+
+public class HtmlBlockParserTest extends CoreRenderingTestCase {
+
+    @Test
+    public void rawTextTags() {
+        assertRendering("<SCRIPT>\n*a*\n</script>\n*b*", "<SCRIPT>\n*a*\n</script>\n<p><em>b</em></p>\n");
+        // Any of the end tags closes the block
+        assertRendering("<pre x>\n*a* </STYLE> c\n*b*", "<pre x>\n*a* </STYLE> c\n<p><em>b</em></p>\n");
+        assertRendering("<pre1>\n*a*", "<pre1>\n*a*\n");
+        assertRendering("a\n<pre1>\n*b*", "<p>a\n<pre1>\n<em>b</em></p>\n");
+    }
+
+    @Test
+    public void blockTags() {
+        assertRendering("<DIV/>\n*a*\n\n*b*", "<DIV/>\n*a*\n<p><em>b</em></p>\n");
+        assertRendering("a\n</h6 x\n*b*", "<p>a</p>\n</h6 x\n*b*\n");
+        assertRendering("a\n<header>\n*b*", "<p>a</p>\n<header>\n*b*\n");
+        assertRendering("a\n<div-x>\n*b*", "<p>a\n<div-x>\n<em>b</em></p>\n");
+        assertRendering("a\n<div/x>", "<p>a\n&lt;div/x&gt;</p>\n");
+    }
+
+    @Test
+    public void otherTags() {
+        assertRendering("<a-b c='>' d=e/ f = \"g\" />  \n*a*", "<a-b c='>' d=e/ f = \"g\" />  \n*a*\n");
+        assertRendering("</x-y >\n*a*", "</x-y >\n*a*\n");
+        assertRendering("<a b='c'd>", "<p>&lt;a b='c'd&gt;</p>\n");
+        assertRendering("<a b= >", "<p>&lt;a b= &gt;</p>\n");
+        assertRendering("<a> b", "<p><a> b</p>\n");
+    }
+
+    @Test
+    public void declarationsAndComments() {
+        assertRendering("<!DOCTYPE html\n*a*>\n*b*", "<!DOCTYPE html\n*a*>\n<p><em>b</em></p>\n");
+        assertRendering("<!doctype html>", "<p>&lt;!doctype html&gt;</p>\n");
+        assertRendering("<!-- a\n-->*b*", "<!-- a\n-->*b*\n");
+        assertRendering("<? a\n?>*b*", "<? a\n?>*b*\n");
+        assertRendering("<![CDATA[ a\n]]>*b*", "<![CDATA[ a\n]]>*b*\n");
+    }
+}
@@ -0,0 +1,69 @@
+package org.commonmark.test;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderCache;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class HtmlRenderCacheTest {
+
+    @Test
+    public void hitsAndMisses() {
+        HtmlRenderCache cache = HtmlRenderCache.builder().build();
+
+        assertEquals("<p><em>a</em></p>\n", cache.render("*a*"));
+        assertEquals("<p><em>a</em></p>\n", cache.render("*a*"));
+        assertEquals("<p>b</p>\n", cache.render("b"));
+        assertEquals("", cache.render(""));
+        assertEquals("", cache.render(""));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0.4, cache.getHitRate(), 0.0001);
+        assertEquals(3, cache.size());
+        assertEquals("<p><em>a</em></p>\n".length() + "<p>b</p>\n".length(), cache.getWeight());
+    }
+
+    @Test
+    public void usesConfiguredParserAndRenderer() {
+        HtmlRenderCache cache = HtmlRenderCache.builder()
+                .parser(Parser.builder().build())
+                .renderer(HtmlRenderer.builder().escapeHtml(true).build())
+                .build();
+        assertEquals("<p>&lt;b&gt;</p>\n", cache.render("<b>"));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        HtmlRenderCache cache = HtmlRenderCache.builder()
+                .maximumWeight(3)
+                .weigher(new HtmlRenderCache.Weigher() {
+                    @Override
+                    public int weigh(String input, String html) {
+                        return input.length();
+                    }
+                })
+                .build();
+
+        cache.render("a");
+        cache.render("b");
+        cache.render("c");
+        // Use "a" so that "b" is the least recently used
+        cache.render("a");
+        cache.render("d");
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.render("a");
+        cache.render("b");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getEvictionCount());
+
+        // Too heavy to be cached at all
+        cache.render("long");
+        assertEquals(3, cache.size());
+        assertEquals(3, cache.getWeight());
+    }
+}
@@ -1,12 +1,16 @@
 package org.commonmark.test;
 
 import org.commonmark.node.*;
+import org.commonmark.parser.IncludeSourceSpans;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
 import org.commonmark.renderer.html.*;
 import org.commonmark.testutil.TestResources;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -14,6 +18,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
@@ -299,6 +304,134 @@ public class HtmlRendererTest {
         }
     }
 
+    @Test
+    public void renderToOutputStream() throws Exception {
+        HtmlRenderer renderer = defaultRenderer();
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        // Multi-byte characters, a supplementary character (surrogate pair) and an unpaired surrogate
+        String input = spec + "\n\nä € \uD83D\uDE00 <b>\u00FC</b> \uD800 end\n";
+        Node document = parse(input);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.renderUtf8(document, out);
+        assertArrayEquals(renderer.render(document).getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void renderToPrintStream() throws Exception {
+        // A PrintStream is both an Appendable and an OutputStream, this must still compile (and use the Appendable)
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream printStream = new PrintStream(out, true, "UTF-8");
+        defaultRenderer().render(parse("foo \u00E4"), printStream);
+        assertEquals("<p>foo \u00E4</p>\n", out.toString("UTF-8"));
+    }
+
+    @Test
+    public void blockHtmlCache() {
+        final int[] renderedBreaks = new int[1];
+        HtmlRenderer renderer = HtmlRenderer.builder().nodeRendererFactory(new HtmlNodeRendererFactory() {
+            @Override
+            public NodeRenderer create(final HtmlNodeRendererContext context) {
+                return new NodeRenderer() {
+                    @Override
+                    public Set<Class<? extends Node>> getNodeTypes() {
+                        return Collections.<Class<? extends Node>>singleton(ThematicBreak.class);
+                    }
+
+                    @Override
+                    public void render(Node node) {
+                        renderedBreaks[0]++;
+                        context.getWriter().line();
+                        context.getWriter().tag("hr", Collections.<String, String>emptyMap(), true);
+                        context.getWriter().line();
+                    }
+                };
+            }
+        }).build();
+        Parser parser = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS).build();
+        String before = "# Heading\n\n***\n\n- a\n- b\n\ntext\n";
+        String after = "# Heading\n\n***\n\n- a\n- b\n\nmore *text*\n";
+
+        BlockHtmlCache cache = new BlockHtmlCache();
+        Node document = parser.parse(before);
+        assertEquals(renderer.render(document), renderer.render(document, cache));
+        assertEquals(2, renderedBreaks[0]);
+        assertEquals(renderer.render(document), renderer.render(document, cache));
+        assertEquals(3, renderedBreaks[0]);
+
+        document = parser.parseIncremental(document, after, 7, 8, 8);
+        assertEquals(renderer.render(parser.parse(after)), renderer.render(document, cache));
+        assertEquals(4, renderedBreaks[0]);
+
+        cache.invalidate(document.getFirstChild().getNext());
+        renderer.render(document, cache);
+        assertEquals(5, renderedBreaks[0]);
+
+        // Different renderer doesn't use HTML of other renderer
+        assertEquals(defaultRenderer().render(document), defaultRenderer().render(document, cache));
+    }
+
+    @Test
+    public void blockHtmlCacheWithMovedBlocks() {
+        final int[] renderedQuotes = new int[1];
+        AttributeProviderFactory countQuotes = new AttributeProviderFactory() {
+            @Override
+            public AttributeProvider create(AttributeProviderContext context) {
+                return new AttributeProvider() {
+                    @Override
+                    public void setAttributes(Node node, String tagName, Map<String, String> attributes) {
+                        if (node instanceof BlockQuote) {
+                            renderedQuotes[0]++;
+                        }
+                    }
+                };
+            }
+        };
+        HtmlRenderer renderer = HtmlRenderer.builder().attributeProviderFactory(countQuotes).build();
+        Parser parser = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS).build();
+        String before = "# Heading\n\n> quote\n> more\n";
+        String after = "# Heading\n\ninserted\n\n> quote\n> more\n";
+
+        BlockHtmlCache cache = new BlockHtmlCache();
+        Node document = parser.parse(before);
+        renderer.render(document, cache);
+        assertEquals(1, renderedQuotes[0]);
+
+        // The quote only moved, so its HTML is reused
+        document = parser.parseIncremental(document, after, 2, 2, 4);
+        assertEquals(renderer.render(parser.parse(after)), renderer.render(document, cache));
+        assertEquals(2, renderedQuotes[0]);
+    }
+
+    @Test
+    public void blockHtmlCacheWithChangedSourceSpans() {
+        AttributeProviderFactory sourceLines = new AttributeProviderFactory() {
+            @Override
+            public AttributeProvider create(AttributeProviderContext context) {
+                return new AttributeProvider() {
+                    @Override
+                    public void setAttributes(Node node, String tagName, Map<String, String> attributes) {
+                        if (!node.getSourceSpans().isEmpty()) {
+                            attributes.put("data-line", String.valueOf(node.getSourceSpans().get(0).getLineIndex()));
+                        }
+                    }
+                };
+            }
+        };
+        HtmlRenderer renderer = HtmlRenderer.builder().attributeProviderFactory(sourceLines).build();
+        Parser parser = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS).build();
+        String before = "# Heading\n\n> quote\n";
+        String after = "# Heading\n\ninserted\n\n> quote\n";
+
+        BlockHtmlCache cache = new BlockHtmlCache(true);
+        Node document = parser.parse(before);
+        renderer.render(document, cache);
+
+        // The quote is kept, but its source spans changed
+        document = parser.parseIncremental(document, after, 2, 2, 4);
+        assertEquals(renderer.render(parser.parse(after)), renderer.render(document, cache));
+    }
+
     private static HtmlRenderer defaultRenderer() {
         return HtmlRenderer.builder().build();
     }
@@ -0,0 +1,44 @@
+package org.commonmark.test;
+
+import org.commonmark.renderer.html.HtmlWriter;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class HtmlWriterTest {
+
+    @Test
+    public void output() {
+        StringBuilder sb = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(sb);
+        writeAll(writer);
+        assertEquals("<p title=\"&quot;x&quot;\">a &lt; b\nraw</p>\n", sb.toString());
+    }
+
+    @Test
+    public void overriddenAppendSeesAllOutput() {
+        StringBuilder sb = new StringBuilder();
+        final StringBuilder seen = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(sb) {
+            @Override
+            protected void append(String s) {
+                seen.append(s);
+                super.append(s);
+            }
+        };
+        writeAll(writer);
+        assertEquals("<p title=\"&quot;x&quot;\">a &lt; b\nraw</p>\n", sb.toString());
+        assertEquals(sb.toString(), seen.toString());
+    }
+
+    private static void writeAll(HtmlWriter writer) {
+        writer.tag("p", Collections.singletonMap("title", "\"x\""));
+        writer.text("a < b");
+        writer.line();
+        writer.raw(new StringBuilder("raw"));
+        writer.tag("/p");
+        writer.line();
+    }
+}
@@ -0,0 +1,298 @@
+package org.commonmark.test;
+
+import org.commonmark.node.*;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.parser.block.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class IncrementalParsingTest {
+
+    private static final Parser PARSER = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+
+    private static final List<String> LINES = Arrays.asList(
+            "# Title",
+            "para one",
+            "para *two* [foo]",
+            "",
+            "- a",
+            "- b",
+            "",
+            "  b2",
+            "> quote",
+            "lazy",
+            "",
+            "```",
+            "code",
+            "```",
+            "",
+            "    indented",
+            "",
+            "<div>",
+            "html",
+            "</div>",
+            "",
+            "[foo]: /url",
+            "last para");
+
+    private static final List<List<String>> REPLACEMENTS = Arrays.asList(
+            Collections.<String>emptyList(),
+            Collections.singletonList(""),
+            Collections.singletonList("text"),
+            Collections.singletonList("==="),
+            Collections.singletonList("---"),
+            Collections.singletonList("```"),
+            Collections.singletonList("- item"),
+            Collections.singletonList("  continued"),
+            Collections.singletonList("    code"),
+            Collections.singletonList("> quote"),
+            Collections.singletonList("# heading"),
+            Collections.singletonList("[bar]: /bar"),
+            Collections.singletonList("<div>"),
+            Collections.singletonList("*emphasis"),
+            Arrays.asList("", "text", ""),
+            Arrays.asList("1. one", "", "   two"));
+
+    @Test
+    public void typingInParagraphKeepsOtherBlocks() {
+        String before = "# Title\n\nzero\n\nfirst\n\nsecond\n";
+        String after = "# Title\n\nzero\n\nfirst *edited*\n\nsecond\n";
+        Node document = PARSER.parse(before);
+        Node heading = document.getFirstChild();
+        Node second = document.getLastChild();
+
+        // The block before the edited line is parsed again as well, but not the ones before it or after
+        Node result = PARSER.parseIncremental(document, after, 4, 5, 5);
+
+        assertSame(document, result);
+        assertSame(heading, document.getFirstChild());
+        assertSame(second, document.getLastChild());
+        assertTreeEquals(PARSER.parse(after), result);
+    }
+
+    @Test
+    public void insertingLinesShiftsSourceSpansOfFollowingBlocks() {
+        String before = "first\n\nsecond *b*\n";
+        String after = "first\n\ninserted\n\nsecond *b*\n";
+        Node document = PARSER.parse(before);
+        Node second = document.getLastChild();
+
+        Node result = PARSER.parseIncremental(document, after, 2, 2, 4);
+
+        assertSame(second, result.getLastChild());
+        assertEquals(Collections.singletonList(SourceSpan.of(4, 0, 10)), second.getSourceSpans());
+        assertTreeEquals(PARSER.parse(after), result);
+    }
+
+    @Test
+    public void sourceSpansOfChildrenAreShiftedWhenAccessed() {
+        String before = "first\n\n> quote *b*\n";
+        String middle = "first\n\ninserted\n\n> quote *b*\n";
+        String after = "inserted\n\nfirst\n\ninserted\n\n> quote *b*\n";
+        Node document = PARSER.parse(before);
+        Block quote = (Block) document.getLastChild();
+
+        PARSER.parseIncremental(document, middle, 2, 2, 4);
+        assertNotNull(quote.getLazyChildren());
+        Node result = PARSER.parseIncremental(document, after, 0, 0, 2);
+
+        assertSame(quote, result.getLastChild());
+        assertTreeEquals(PARSER.parse(after), result);
+        assertNull(quote.getLazyChildren());
+    }
+
+    @Test
+    public void manyEditsWithoutAccessingChildren() {
+        String input = "a\n\n> quote *b*\n";
+        Node document = PARSER.parse(input);
+        for (int i = 0; i < 10000; i++) {
+            input = "\n" + input;
+            document = PARSER.parseIncremental(document, input, 0, 0, 1);
+            // Only the re-parsed first block is looked at
+            document.getFirstChild().getFirstChild();
+        }
+
+        assertTreeEquals(PARSER.parse(input), document);
+    }
+
+    @Test
+    public void lazyInlineParsing() {
+        Parser parser = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                .lazyInlineParsing(true).build();
+        String before = "first\n\n- *b* [foo]\n\n[foo]: /url\n";
+        String after = "first\n\ninserted\n\n- *b* [foo]\n\n[foo]: /url\n";
+        Node document = parser.parse(before);
+
+        Node result = parser.parseIncremental(document, after, 2, 2, 4);
+
+        assertTreeEquals(PARSER.parse(after), result);
+    }
+
+    @Test
+    public void editCanChangePreviousBlock() {
+        assertIncremental("para\n\nnext\n", "para\n===\n\nnext\n", 1, 1, 2);
+        assertIncremental("> quote\n\nnext\n", "> quote\nlazy\n\nnext\n", 1, 1, 2);
+        assertIncremental("- item\n\nnext\n", "- item\n\n  continued\n\nnext\n", 2, 2, 4);
+    }
+
+    @Test
+    public void editCanChangeFollowingBlocks() {
+        assertIncremental("a\n\nb\n\n```\nc\n```\n", "```\na\n\nb\n\n```\nc\n```\n", 0, 0, 1);
+        assertIncremental("```\na\n```\n\nb\n", "```\na\n\nb\n", 2, 3, 2);
+    }
+
+    @Test
+    public void changedDefinitionsParseEverything() {
+        String before = "[foo]\n\ntext\n";
+        String after = "[foo]\n\n[foo]: /url\n";
+        Node document = PARSER.parse(before);
+
+        Node result = PARSER.parseIncremental(document, after, 2, 3, 3);
+
+        assertNotSame(document, result);
+        assertTreeEquals(PARSER.parse(after), result);
+    }
+
+    @Test
+    public void definitionsOfOtherBlocksAreUsed() {
+        assertIncremental("text\n\n[foo]: /url\n", "[foo]\n\n[foo]: /url\n", 0, 1, 1);
+    }
+
+    @Test
+    public void blocksOnlyAtStartOfDocument() {
+        Parser parser = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                .customBlockParserFactory(new FirstBlockParserFactory()).build();
+        String before = "text\n\n---\nfoo: bar\n---\n\nend\n";
+        String after = "text\n\n---\nfoo: baz\n---\n\nend\n";
+        Node document = parser.parse(before);
+
+        Node result = parser.parseIncremental(document, after, 3, 4, 4);
+
+        assertTreeEquals(parser.parse(after), result);
+        assertIncremental(parser, "---\n\ntext\n", "---\n\ntext\n\nmore\n", 3, 3, 5);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void requiresSourceSpans() {
+        Parser parser = Parser.builder().build();
+        parser.parseIncremental(parser.parse("a"), "b", 0, 1, 1);
+    }
+
+    @Test
+    public void allEdits() {
+        for (int line = 0; line <= LINES.size(); line++) {
+            for (List<String> replacement : REPLACEMENTS) {
+                // Insert before line
+                assertEdit(line, line, replacement);
+                if (line < LINES.size()) {
+                    // Replace line
+                    assertEdit(line, line + 1, replacement);
+                }
+                if (line + 2 <= LINES.size()) {
+                    // Replace two lines
+                    assertEdit(line, line + 2, replacement);
+                }
+            }
+        }
+    }
+
+    private void assertEdit(int startLine, int oldEndLine, List<String> replacement) {
+        List<String> newLines = new ArrayList<>(LINES.subList(0, startLine));
+        newLines.addAll(replacement);
+        newLines.addAll(LINES.subList(oldEndLine, LINES.size()));
+        assertIncremental(join(LINES), join(newLines), startLine, oldEndLine, startLine + replacement.size());
+    }
+
+    private void assertIncremental(String before, String after, int startLine, int oldEndLine, int newEndLine) {
+        assertIncremental(PARSER, before, after, startLine, oldEndLine, newEndLine);
+    }
+
+    private static void assertIncremental(Parser parser, String before, String after, int startLine, int oldEndLine,
+                                          int newEndLine) {
+        Node document = parser.parse(before);
+        Node result = parser.parseIncremental(document, after, startLine, oldEndLine, newEndLine);
+        assertEquals("Edit (" + startLine + ", " + oldEndLine + ", " + newEndLine + ") of:\n" + before + "\nto:\n" + after,
+                dump(parser.parse(after)), dump(result));
+    }
+
+    private static void assertTreeEquals(Node expected, Node actual) {
+        assertEquals(dump(expected), dump(actual));
+    }
+
+    private static String join(List<String> lines) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String dump(Node node) {
+        StringBuilder sb = new StringBuilder();
+        dump(node, 0, sb);
+        return sb.toString();
+    }
+
+    private static void dump(Node node, int depth, StringBuilder sb) {
+        for (int i = 0; i < depth; i++) {
+            sb.append("  ");
+        }
+        sb.append(node.getClass().getSimpleName());
+        if (node instanceof Text) {
+            sb.append(" \"").append(((Text) node).getLiteral()).append('"');
+        } else if (node instanceof Link) {
+            sb.append(' ').append(((Link) node).getDestination());
+        } else if (node instanceof Heading) {
+            sb.append(' ').append(((Heading) node).getLevel());
+        }
+        sb.append(' ').append(node.getSourceSpans()).append('\n');
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            dump(child, depth + 1, sb);
+        }
+    }
+
+    private static class FirstBlock extends CustomBlock {
+    }
+
+    private static class FirstBlockParser extends AbstractBlockParser {
+
+        private final FirstBlock block = new FirstBlock();
+
+        @Override
+        public Block getBlock() {
+            return block;
+        }
+
+        @Override
+        public BlockContinue tryContinue(ParserState parserState) {
+            return BlockContinue.none();
+        }
+    }
+
+    /**
+     * Like front matter, only starts a block at the beginning of the document.
+     */
+    private static class FirstBlockParserFactory extends AbstractBlockParserFactory {
+
+        @Override
+        public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
+            BlockParser parentParser = matchedBlockParser.getMatchedBlockParser();
+            if (parentParser.getBlock() instanceof Document && parentParser.getBlock().getFirstChild() == null &&
+                    state.getLine().getContent().toString().equals("---")) {
+                return BlockStart.of(new FirstBlockParser());
+            }
+            return BlockStart.none();
+        }
+    }
+}
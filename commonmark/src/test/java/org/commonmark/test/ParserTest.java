@@ -3,25 +3,34 @@ package org.commonmark.test;
 import org.commonmark.node.*;
 import org.commonmark.parser.*;
 import org.commonmark.parser.block.*;
+import org.commonmark.parser.delimiter.DelimiterProcessor;
+import org.commonmark.parser.delimiter.DelimiterRun;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public class ParserTest {
@@ -43,6 +52,219 @@ public class ParserTest {
         assertEquals(renderer.render(document2), renderer.render(document1));
     }
 
+    @Test
+    public void lineViews() {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        Parser parser = Parser.builder().build();
+        Parser lineViewsParser = Parser.builder().lineViews(true).build();
+
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        assertEquals(renderer.render(parser.parse(spec)), renderer.render(lineViewsParser.parse(spec)));
+    }
+
+    @Test
+    public void lineViewsSourceSpans() {
+        Parser parser = Parser.builder().lineViews(true).includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+        Node document = parser.parse("> foo\r\n> *bar*\n\n```\ncode\n```");
+
+        Node blockQuote = document.getFirstChild();
+        assertEquals(Arrays.asList(SourceSpan.of(0, 0, 5), SourceSpan.of(1, 0, 7)), blockQuote.getSourceSpans());
+        Node emphasis = blockQuote.getFirstChild().getLastChild();
+        assertEquals(Arrays.asList(SourceSpan.of(1, 2, 5)), emphasis.getSourceSpans());
+        assertEquals("code\n", ((FencedCodeBlock) document.getLastChild()).getLiteral());
+    }
+
+    @Test
+    public void lazyLiterals() {
+        Parser parser = Parser.builder().build();
+        Parser lazyLiteralsParser = Parser.builder().lazyLiterals(true).build();
+
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        for (String source : ExampleReader.readExampleSources(TestResources.getSpec())) {
+            assertEquals(renderer.render(parser.parse(source)), renderer.render(lazyLiteralsParser.parse(source)));
+        }
+    }
+
+    @Test
+    public void lazyLiteralsAreViews() {
+        Parser parser = Parser.builder().lazyLiterals(true).build();
+        Node paragraph = parser.parse("foo*bar `code` <b>\nline").getFirstChild();
+
+        // Texts next to each other in the input are merged into one view
+        Text text = (Text) paragraph.getFirstChild();
+        assertThat(text.getLiteralView(), not(instanceOf(String.class)));
+        assertEquals("foo*bar ", text.getLiteralView().toString());
+        Code code = (Code) text.getNext();
+        assertThat(code.getLiteralView(), not(instanceOf(String.class)));
+        HtmlInline htmlInline = (HtmlInline) code.getNext().getNext();
+        assertThat(htmlInline.getLiteralView(), not(instanceOf(String.class)));
+
+        assertEquals("foo*bar ", text.getLiteral());
+        // Once built, the string is kept
+        assertThat(text.getLiteralView(), instanceOf(String.class));
+        assertEquals("code", code.getLiteral());
+        assertEquals("<b>", htmlInline.getLiteral());
+    }
+
+    @Test
+    public void lazyInlineParsing() {
+        Parser parser = Parser.builder().build();
+        Parser lazyParser = Parser.builder().lazyInlineParsing(true).reuseParserState(true).build();
+
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        List<Node> documents = new ArrayList<>();
+        List<String> sources = ExampleReader.readExampleSources(TestResources.getSpec());
+        for (String source : sources) {
+            documents.add(lazyParser.parse(source));
+        }
+        // Rendered after all were parsed, so that reusing the parser state doesn't affect lazily parsed documents
+        for (int i = 0; i < sources.size(); i++) {
+            assertEquals(renderer.render(parser.parse(sources.get(i))), renderer.render(documents.get(i)));
+        }
+    }
+
+    @Test
+    public void lazyInlineParsingOnlyParsesVisitedBlocks() {
+        final List<String> parsed = new ArrayList<>();
+        InlineParserFactory inlineParserFactory = new InlineParserFactory() {
+            @Override
+            public InlineParser create(InlineParserContext inlineParserContext) {
+                return new InlineParser() {
+                    @Override
+                    public void parse(SourceLines lines, Node node) {
+                        parsed.add(lines.getContent());
+                        node.appendChild(new Text(lines.getContent()));
+                    }
+                };
+            }
+        };
+        Parser parser = Parser.builder().inlineParserFactory(inlineParserFactory).lazyInlineParsing(true).build();
+        Node document = parser.parse("# Heading\n\ntext\n\n- item\n");
+        assertEquals(Collections.emptyList(), parsed);
+
+        Heading heading = (Heading) document.getFirstChild();
+        assertEquals("Heading", ((Text) heading.getFirstChild()).getLiteral());
+        assertEquals(Collections.singletonList("Heading"), parsed);
+
+        // Appending parses first, so that the new child comes after the parsed ones
+        Paragraph paragraph = (Paragraph) heading.getNext();
+        paragraph.appendChild(new Text("appended"));
+        assertEquals(Arrays.asList("Heading", "text"), parsed);
+        assertEquals("text", ((Text) paragraph.getFirstChild()).getLiteral());
+        assertEquals("appended", ((Text) paragraph.getLastChild()).getLiteral());
+
+        document.accept(new AbstractVisitor() {
+        });
+        assertEquals(Arrays.asList("Heading", "text", "item"), parsed);
+    }
+
+    @Test
+    public void blockOnly() {
+        Parser parser = Parser.builder().blockOnly(true).build();
+        Node document = parser.parse("# *Heading*\n\nsome `text`\nmore [text]\n\n[text]: /url\n");
+
+        Heading heading = (Heading) document.getFirstChild();
+        UnparsedInlines headingContent = (UnparsedInlines) heading.getFirstChild();
+        assertNull(headingContent.getNext());
+        assertEquals("*Heading*", headingContent.getContent());
+
+        Paragraph paragraph = (Paragraph) heading.getNext();
+        UnparsedInlines paragraphContent = (UnparsedInlines) paragraph.getFirstChild();
+        assertEquals(2, paragraphContent.getSourceLines().getLines().size());
+        assertEquals("some `text`\nmore [text]", paragraphContent.getContent());
+        assertThat(paragraph.getNext(), instanceOf(LinkReferenceDefinition.class));
+
+        assertEquals("<h1>*Heading*</h1>\n<p>some `text`\nmore [text]</p>\n",
+                HtmlRenderer.builder().build().render(document));
+    }
+
+    @Test
+    public void stopParsingWhen() throws IOException {
+        Parser parser = Parser.builder().stopParsingWhen(new BlockPredicate() {
+            @Override
+            public boolean test(Block block) {
+                return block instanceof Heading;
+            }
+        }).build();
+
+        String input = "intro\n\n> quote\n> # Heading\n> more\n\n# Next\n";
+        Node document = parser.parse(input);
+        // The quote was still open when the heading in it was closed
+        assertThat(document.getFirstChild(), instanceOf(Paragraph.class));
+        BlockQuote blockQuote = (BlockQuote) document.getFirstChild().getNext();
+        assertNull(blockQuote.getNext());
+        assertThat(blockQuote.getLastChild(), instanceOf(Paragraph.class));
+        assertThat(blockQuote.getLastChild().getPrevious(), instanceOf(Heading.class));
+        assertEquals("more", ((Text) blockQuote.getLastChild().getFirstChild()).getLiteral());
+
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        assertEquals(renderer.render(document), renderer.render(parser.parseReader(new StringReader(input))));
+
+        // No heading, so everything is parsed
+        assertEquals("<p>a</p>\n<p>b</p>\n", renderer.render(parser.parse("a\n\nb")));
+    }
+
+    @Test
+    public void stopParsingWhenIgnoresRemovedBlocks() {
+        Parser parser = Parser.builder().stopParsingWhen(new BlockPredicate() {
+            @Override
+            public boolean test(Block block) {
+                return block instanceof Paragraph;
+            }
+        }).build();
+
+        // The paragraph with only a definition is removed, so it doesn't stop parsing
+        Node document = parser.parse("[foo]: /url\n\n[foo]\n\nafter\n");
+        assertThat(document.getFirstChild(), instanceOf(LinkReferenceDefinition.class));
+        Paragraph paragraph = (Paragraph) document.getFirstChild().getNext();
+        assertNull(paragraph.getNext());
+        assertThat(paragraph.getFirstChild(), instanceOf(Link.class));
+    }
+
+    @Test
+    public void streaming() throws IOException {
+        Parser parser = Parser.builder().build();
+        final HtmlRenderer renderer = HtmlRenderer.builder().build();
+        String input = "# Heading\n\n> quote\n\n- [a]\n- b\n\ntext\n\n[a]: /url\n";
+
+        final StringBuilder html = new StringBuilder();
+        parser.parseReaderStreaming(new StringReader(input), new BlockHandler() {
+            @Override
+            public void handle(Node node) {
+                assertThat(node.getParent(), nullValue());
+                html.append(renderer.render(node));
+            }
+        });
+
+        // Forward reference is not resolved in a single pass
+        assertEquals(renderer.render(parser.parse(input.replace("[a]: /url\n", ""))), html.toString());
+    }
+
+    @Test
+    public void streamingTwoPass() throws IOException {
+        Parser parser = Parser.builder().build();
+        final HtmlRenderer renderer = HtmlRenderer.builder().build();
+        String spec = TestResources.readAsString(TestResources.getSpec());
+
+        final StringBuilder html = new StringBuilder();
+        final List<Node> nodes = new ArrayList<>();
+        parser.parseReaderStreaming(new StringReader(spec), new StringReader(spec), new BlockHandler() {
+            @Override
+            public void handle(Node node) {
+                nodes.add(node);
+                html.append(renderer.render(node));
+            }
+        });
+
+        Node document = parser.parse(spec);
+        assertEquals(renderer.render(document), html.toString());
+        int topLevelNodes = 0;
+        for (Node node = document.getFirstChild(); node != null; node = node.getNext()) {
+            topLevelNodes++;
+        }
+        assertEquals(topLevelNodes, nodes.size());
+    }
+
     @Test
     public void customBlockParserFactory() {
         Parser parser = Parser.builder().customBlockParserFactory(new DashBlockParserFactory()).build();
@@ -146,6 +368,132 @@ public class ParserTest {
         }
     }
 
+    @Test
+    public void inlineParsingExecutor() throws Exception {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        String expectedRendering = renderer.render(Parser.builder().build().parse(spec));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Parser parser = Parser.builder().inlineParsingExecutor(executorService).build();
+            assertThat(renderer.render(parser.parse(spec)), is(expectedRendering));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void inlineParsingExecutorFromOwnThread() throws Exception {
+        final String spec = TestResources.readAsString(TestResources.getSpec());
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        String expectedRendering = renderer.render(Parser.builder().build().parse(spec));
+
+        // The only thread of the executor parses, so it can't also run the inline parsing tasks
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Parser parser = Parser.builder().inlineParsingExecutor(executorService).build();
+            Future<Node> future = executorService.submit(new Callable<Node>() {
+                @Override
+                public Node call() {
+                    return parser.parse(spec);
+                }
+            });
+            assertThat(renderer.render(future.get()), is(expectedRendering));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void inlineParsingExecutorRejectingTasks() {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        String expectedRendering = renderer.render(Parser.builder().build().parse(spec));
+
+        Executor executor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        };
+        Parser parser = Parser.builder().inlineParsingExecutor(executor).build();
+        assertThat(renderer.render(parser.parse(spec)), is(expectedRendering));
+    }
+
+    @Test
+    public void reuseParserState() {
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        Parser parser = Parser.builder().reuseParserState(true).build();
+
+        assertThat(renderer.render(parser.parse("[foo]\n\n[foo]: /url\n")), is("<p><a href=\"/url\">foo</a></p>\n"));
+        // Definitions of the previous document must not be used
+        assertThat(renderer.render(parser.parse("[foo]\n")), is("<p>[foo]</p>\n"));
+        assertThat(renderer.render(parser.parse("> *a\n> b*\n")), is("<blockquote>\n<p><em>a\nb</em></p>\n</blockquote>\n"));
+        assertThat(renderer.render(parser.parse("")), is(""));
+
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        String expectedRendering = renderer.render(Parser.builder().build().parse(spec));
+        assertThat(renderer.render(parser.parse(spec)), is(expectedRendering));
+        assertThat(renderer.render(parser.parse(spec)), is(expectedRendering));
+    }
+
+    @Test
+    public void reuseParserStateCreatesInlineParserPerDocument() {
+        final int[] created = new int[1];
+        Parser parser = Parser.builder().reuseParserState(true).inlineParserFactory(new InlineParserFactory() {
+            @Override
+            public InlineParser create(InlineParserContext inlineParserContext) {
+                created[0]++;
+                return new InlineParser() {
+                    @Override
+                    public void parse(SourceLines lines, Node node) {
+                    }
+                };
+            }
+        }).build();
+        int createdByBuild = created[0];
+
+        parser.parse("first *doc*");
+        parser.parse("second *doc*");
+
+        // The inline parser references the input of the previous document, so it's not kept
+        assertEquals(createdByBuild + 2, created[0]);
+    }
+
+    @Test
+    public void reuseParserStateNested() {
+        final HtmlRenderer renderer = HtmlRenderer.builder().build();
+        final Parser[] parser = new Parser[1];
+        // Parses another document while parsing inlines of the outer document
+        parser[0] = Parser.builder().reuseParserState(true).customDelimiterProcessor(new DelimiterProcessor() {
+            @Override
+            public char getOpeningCharacter() {
+                return '%';
+            }
+
+            @Override
+            public char getClosingCharacter() {
+                return '%';
+            }
+
+            @Override
+            public int getMinLength() {
+                return 1;
+            }
+
+            @Override
+            public int process(DelimiterRun openingRun, DelimiterRun closingRun) {
+                Node document = parser[0].parse("*inner*\n\n[x]: /y");
+                openingRun.getOpener().insertAfter(new Text(renderer.render(document.getFirstChild()).trim()));
+                return 1;
+            }
+        }).build();
+
+        assertThat(renderer.render(parser[0].parse("[x] %a% *b*\n")), is("<p>[x] &lt;p&gt;&lt;em&gt;inner&lt;/em&gt;&lt;/p&gt;a <em>b</em></p>\n"));
+        assertThat(renderer.render(parser[0].parse("[x] %a% *b*\n")), is("<p>[x] &lt;p&gt;&lt;em&gt;inner&lt;/em&gt;&lt;/p&gt;a <em>b</em></p>\n"));
+    }
+
     private String firstText(Node n) {
         while (!(n instanceof Text)) {
             assertThat(n, notNullValue());
@@ -55,6 +55,22 @@ public class PathologicalTest extends CoreRenderingTestCase {
                 "<p>" + repeat("_a ", x - 1) + "_a</p>\n");
     }
 
+    @Test
+    public void emphasisOpenersAndClosersMultipleOf3() {
+        // Every closer rejects the opener because of the "multiple of 3" rule, which must not result in looking at
+        // the opener (and all the closers before) again for each closer.
+        assertRendering(
+                "a**b" + repeat("c* ", x),
+                "<p>a**b" + repeat("c* ", x - 1) + "c*</p>\n");
+    }
+
+    @Test
+    public void emphasisClosersOfMixedLengthsMultipleOf3() {
+        assertRendering(
+                "a*b" + repeat("c** d***** ", x / 2),
+                "<p>a*b" + repeat("c** d***** ", x / 2 - 1) + "c** d*****</p>\n");
+    }
+
     @Test
     public void linkClosersWithNoOpeners() {
         assertRendering(
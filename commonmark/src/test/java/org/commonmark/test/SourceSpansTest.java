@@ -6,8 +6,11 @@ import org.commonmark.parser.Parser;
 import org.junit.Test;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 
@@ -279,6 +282,39 @@ public class SourceSpansTest {
         assertInlineSpans("a\tb", Text.class, SourceSpan.of(0, 0, 3));
     }
 
+    @Test
+    public void nodeSourceSpans() {
+        Node node = new Paragraph();
+        List<SourceSpan> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            SourceSpan sourceSpan = SourceSpan.of(i, i + 1, i + 2);
+            node.addSourceSpan(sourceSpan);
+            expected.add(sourceSpan);
+        }
+        assertEquals(expected, node.getSourceSpans());
+
+        Node other = new Paragraph();
+        other.setSourceSpans(node.getSourceSpans());
+        node.addSourceSpan(SourceSpan.of(10, 0, 1));
+        assertEquals(expected, other.getSourceSpans());
+
+        other.setSourceSpans(Collections.<SourceSpan>emptyList());
+        assertEquals(Collections.emptyList(), other.getSourceSpans());
+    }
+
+    @Test
+    public void sourceSpansMergesAdjacent() {
+        SourceSpans sourceSpans = SourceSpans.empty();
+        sourceSpans.addAll(Arrays.asList(SourceSpan.of(0, 0, 2), SourceSpan.of(1, 0, 3)));
+        Node node = new Text();
+        node.setSourceSpans(Arrays.asList(SourceSpan.of(1, 3, 2), SourceSpan.of(2, 0, 1)));
+        sourceSpans.addAll(node.getSourceSpans());
+        sourceSpans.addAll(Collections.singletonList(SourceSpan.of(2, 5, 1)));
+
+        assertEquals(Arrays.asList(SourceSpan.of(0, 0, 2), SourceSpan.of(1, 0, 5), SourceSpan.of(2, 0, 1),
+                SourceSpan.of(2, 5, 1)), sourceSpans.getSourceSpans());
+    }
+
     private String visualizeSourceSpans(String source) {
         Node document = PARSER.parse(source);
         return SourceSpanRenderer.render(document, source);
@@ -108,6 +108,14 @@ public class SpecialInputTest extends CoreRenderingTestCase {
                 "<p>[foo][12" + label2 + "]</p>\n<p>[12" + label2 + "]: /</p>\n");
     }
 
+    @Test
+    public void linkLabelCaseFolding() {
+        // spec: Unicode case fold is used, so this matches even though the lowercase of U+1E9E is U+00DF
+        assertRendering("[\u1E9E]\n\n[SS]: /url", "<p><a href=\"/url\">\u1E9E</a></p>\n");
+        assertRendering("[Stra\u00DFe]\n\n[STRASSE]: /url", "<p><a href=\"/url\">Stra\u00DFe</a></p>\n");
+        assertRendering("[\u039F\u03A3]\n\n[\u03BF\u03C2]: /url", "<p><a href=\"/url\">\u039F\u03A3</a></p>\n");
+    }
+
     @Test
     public void linkDestinationEscaping() {
         // Backslash escapes `)`
@@ -1,19 +1,94 @@
 // 1. curl -O "https://html.spec.whatwg.org/multipage/entities.json"
 // 2. run this script with node
+// 3. move Html5EntityData.java to commonmark/src/main/java/org/commonmark/internal/util/
 
 var fs = require('fs');
 var data = JSON.parse(fs.readFileSync("entities.json"));
 
-var result = "";
+var names = [];
 for (var key in data) {
   // exclude names not ending with ";" as per CommonMark spec
   if (!data.hasOwnProperty(key) || key.slice(-1) !== ";") {
     continue;
   }
-  // special handling
-  if (key === 'NewLine') {
-    continue;
+  names.push(key.slice(1, -1));
+}
+// Same order as String#compareTo in Java (names are ASCII), for binary search
+names.sort();
+
+function escape(s) {
+  var result = "";
+  for (var i = 0; i < s.length; i++) {
+    var c = s.charAt(i);
+    var code = s.charCodeAt(i);
+    if (c === '"' || c === '\\') {
+      result += '\\' + c;
+    } else if (c === '\n') {
+      result += '\\n';
+    } else if (c === '\t') {
+      result += '\\t';
+    } else if (code >= 0x20 && code < 0x7F) {
+      result += c;
+    } else {
+      // Also for each half of a surrogate pair
+      result += '\\u' + ('000' + code.toString(16).toUpperCase()).slice(-4);
+    }
   }
-  result += key.slice(1, -1) + '=' + data[key].characters + '\n';
+  return result;
+}
+
+// String constants split into lines of at most 100 characters, without splitting entries
+function constant(entries) {
+  var lines = [];
+  var line = "";
+  entries.forEach(function (entry) {
+    if (line.length > 0 && line.length + entry.length > 100) {
+      lines.push(line);
+      line = "";
+    }
+    line += entry;
+  });
+  lines.push(line);
+  return '""\n' + lines.map(function (l) {
+    return '            + "' + l + '"';
+  }).join('\n') + ';\n';
 }
-fs.writeFileSync("entities.properties", result);
+
+var values = names.map(function (name) {
+  var value = escape(data['&' + name + ';'].characters);
+  // "\0" followed by an octal digit would be a different escape
+  if (/^[0-7]/.test(value)) {
+    throw new Error("Value of " + name + " starts with a digit: " + value);
+  }
+  return value + '\\0';
+});
+
+var result = "package org.commonmark.internal.util;\n" +
+    "\n" +
+    "/**\n" +
+    " * The HTML5 named character references, generated from https://html.spec.whatwg.org/entities.json (without the\n" +
+    " * {@code &} and {@code ;}, and only the ones that end with {@code ;}). Compiled into the class instead of read from a\n" +
+    " * resource, so that using them doesn't need any I/O.\n" +
+    " * <p>\n" +
+    " * Generated by etc/entities.js, don't edit.\n" +
+    " */\n" +
+    "class Html5EntityData {\n" +
+    "\n" +
+    "    /**\n" +
+    "     * The names in ascending order, each followed by {@code ;}.\n" +
+    "     */\n" +
+    "    static final String NAMES = " + constant(names.map(function (name) {
+      return name + ';';
+    })) +
+    "\n" +
+    "    /**\n" +
+    "     * The values, in the same order as the names, each followed by {@code \\0}.\n" +
+    "     */\n" +
+    "    static final String VALUES = " + constant(values) +
+    "\n" +
+    "    static final int COUNT = " + names.length + ";\n" +
+    "\n" +
+    "    private Html5EntityData() {\n" +
+    "    }\n" +
+    "}\n";
+fs.writeFileSync("Html5EntityData.java", result);